@@ -1,5 +1,9 @@
 package ma.formations.multiconnector;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import ma.formations.multiconnector.common.BoundedPasswordEncoder;
+import ma.formations.multiconnector.dao.CustomerRepository;
+import ma.formations.multiconnector.dao.RoleRepository;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.customer.AddCustomerRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
@@ -12,11 +16,11 @@ import ma.formations.multiconnector.service.IBankAccountService;
 import ma.formations.multiconnector.service.ICustomerService;
 import ma.formations.multiconnector.service.ITransactionService;
 import ma.formations.multiconnector.service.IUserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Arrays;
@@ -30,13 +34,21 @@ public class BankServiceApplication {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${bank.security.bcrypt.strength:10}") int strength,
+                                           @Value("${bank.security.bcrypt.max-concurrent:0}") int maxConcurrent,
+                                           @Value("${bank.security.bcrypt.acquire-timeout-ms:2000}") long acquireTimeoutMs,
+                                           MeterRegistry meterRegistry) {
+        // 0 = un hachage en parallèle par cœur
+        int permits = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(strength, permits, acquireTimeoutMs, meterRegistry);
     }
 
     @Bean
-    CommandLineRunner initSecurityData(IUserService userService) {
+    CommandLineRunner initSecurityData(IUserService userService, RoleRepository roleRepository) {
         return args -> {
+            // Base persistante (profil prod) déjà initialisée : rien à recréer au démarrage
+            if (roleRepository.count() > 0)
+                return;
             // Ajouter toutes les permissions
             Arrays.stream(Permissions.values()).toList().forEach(permission ->
                     userService.save(PermissionVo.builder().authority(permission.name()).build())
@@ -132,9 +144,12 @@ public class BankServiceApplication {
     @Bean
     CommandLineRunner initDataBase(ICustomerService customerService,
                                    IBankAccountService bankAccountService,
-                                   ITransactionService transactionService) {
+                                   ITransactionService transactionService,
+                                   CustomerRepository customerRepository) {
 
         return args -> {
+            if (customerRepository.count() > 0)
+                return;
             customerService.createCustomer(AddCustomerRequest.builder().
                     username("user1").
                     identityRef("A100").
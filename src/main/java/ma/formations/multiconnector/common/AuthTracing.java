@@ -0,0 +1,65 @@
+package ma.formations.multiconnector.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chronométrage échantillonné du chargement d'un utilisateur (recherche, mapping, autorités).
+ * La décision d'échantillonnage est prise une fois par appel dans start() ; un appel non retenu
+ * ne lit même pas l'horloge.
+ */
+@Component
+public class AuthTracing {
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final double sampleRate;
+    private final Timer lookupTimer;
+    private final Timer mappingTimer;
+    private final Timer authoritiesTimer;
+
+    public AuthTracing(MeterRegistry meterRegistry,
+                       @Value("${bank.security.auth-tracing.sample-rate:0.01}") double sampleRate) {
+        this.sampleRate = sampleRate;
+        this.lookupTimer = timer(meterRegistry, "lookup");
+        this.mappingTimer = timer(meterRegistry, "mapping");
+        this.authoritiesTimer = timer(meterRegistry, "authorities");
+    }
+
+    public long start() {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate))
+            return NOT_SAMPLED;
+        return System.nanoTime();
+    }
+
+    public long lookup(long since) {
+        return record(lookupTimer, since);
+    }
+
+    public long mapping(long since) {
+        return record(mappingTimer, since);
+    }
+
+    public long authorities(long since) {
+        return record(authoritiesTimer, since);
+    }
+
+    private static long record(Timer timer, long since) {
+        if (since == NOT_SAMPLED)
+            return NOT_SAMPLED;
+        long now = System.nanoTime();
+        timer.record(now - since, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("bank.auth.load-user").
+                description("Sampled duration of each phase of loadUserByUsername").
+                tag("phase", phase).
+                register(meterRegistry);
+    }
+}
@@ -0,0 +1,89 @@
+package ma.formations.multiconnector.common;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt borné : au plus maxConcurrent hachages en parallèle, les autres attendent leur tour
+ * (file équitable) au plus acquireTimeoutMs. Une rafale de connexions ne peut donc pas occuper
+ * tous les threads CPU au détriment des virements.
+ * Un hash produit avec un autre coût que le coût configuré est signalé à re-hacher (upgradeEncoding).
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public BoundedPasswordEncoder(int strength, int maxConcurrent, long acquireTimeoutMs, MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.encodeTimer = timer(meterRegistry, "encode");
+        this.matchesTimer = timer(meterRegistry, "matches");
+        Gauge.builder("bank.auth.password.queue", permits, Semaphore::getQueueLength).
+                description("Threads waiting for a password hashing slot").
+                register(meterRegistry);
+        Gauge.builder("bank.auth.password.active", permits, semaphore -> maxConcurrent - semaphore.availablePermits()).
+                description("Password hashings in progress").
+                register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return bounded(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return bounded(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null)
+            return false;
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    // Le temps mesuré inclut l'attente d'un créneau : c'est la latence vue par la connexion
+    private <T> T bounded(Timer timer, Supplier<T> hashing) {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS))
+                throw new BusinessException("too many concurrent logins, please retry later");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("the login has been interrupted");
+        }
+        try {
+            return hashing.get();
+        } finally {
+            permits.release();
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("bank.auth.password.hashing").
+                description("Password hashing latency, waiting time included").
+                tag("operation", operation).
+                register(meterRegistry);
+    }
+}
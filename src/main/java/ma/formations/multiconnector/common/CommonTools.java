@@ -1,31 +1,137 @@
 package ma.formations.multiconnector.common;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.time.zone.ZoneRules;
 import java.util.Date;
 
 @Component
 @Data
 public class CommonTools {
+    private static final String FIXED_PATTERN = "yyyy-MM-dd HH:mm:ss";
 
     @Value("${graphql.date.format}")
     private String dateFormat;
 
+    // Formatteur immuable et thread-safe construit une seule fois par format (au lieu d'un SimpleDateFormat par appel)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile DateFormats formats;
+
     public String getDateFormat() {
         return dateFormat;
     }
 
     public String dateToString(Date date) {
-        SimpleDateFormat formatter = new SimpleDateFormat(dateFormat);
-        return formatter.format(date);
+        DateFormats current = formats();
+        if (current.fixedPattern) {
+            String formatted = formatFixedPattern(date.getTime(), current);
+            if (formatted != null)
+                return formatted;
+        }
+        return current.formatter.format(Instant.ofEpochMilli(date.getTime()));
     }
 
     public Date stringToDate(String date) throws ParseException {
-        SimpleDateFormat formatter = new SimpleDateFormat(dateFormat);
-        return formatter.parse(date);
+        DateFormats current = formats();
+        try {
+            TemporalAccessor parsed = current.formatter.parseBest(date, LocalDateTime::from, LocalDate::from);
+            LocalDateTime dateTime = parsed instanceof LocalDateTime ? (LocalDateTime) parsed : ((LocalDate) parsed).atStartOfDay();
+            return Date.from(dateTime.atZone(current.zone).toInstant());
+        } catch (DateTimeParseException e) {
+            ParseException parseException = new ParseException(e.getMessage(), e.getErrorIndex());
+            parseException.initCause(e);
+            throw parseException;
+        }
+    }
+
+    private DateFormats formats() {
+        DateFormats current = formats;
+        if (current == null || !current.pattern.equals(dateFormat)) {
+            current = new DateFormats(dateFormat, ZoneId.systemDefault());
+            formats = current;
+        }
+        return current;
+    }
+
+    /**
+     * Formatage direct du motif yyyy-MM-dd HH:mm:ss, sans passer par les objets java.time.
+     * Renvoie null hors des années 1 à 9999, laissées au DateTimeFormatter.
+     */
+    private static String formatFixedPattern(long epochMilli, DateFormats formats) {
+        int offset = formats.fixedOffset != null ? formats.fixedOffset :
+                formats.rules.getOffset(Instant.ofEpochMilli(epochMilli)).getTotalSeconds();
+        long localSecond = Math.floorDiv(epochMilli, 1000L) + offset;
+        long epochDay = Math.floorDiv(localSecond, 86400L);
+        int secondOfDay = (int) Math.floorMod(localSecond, 86400L);
+
+        // Jour -> date du calendrier grégorien (algorithme "civil_from_days" de H. Hinnant)
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097L);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 1 || year > 9999)
+            return null;
+
+        char[] buffer = new char[19];
+        writeDigits(buffer, 0, (int) year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, month, 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, day, 2);
+        buffer[10] = ' ';
+        writeDigits(buffer, 11, secondOfDay / 3600, 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, secondOfDay / 60 % 60, 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, secondOfDay % 60, 2);
+        return new String(buffer);
+    }
+
+    private static void writeDigits(char[] buffer, int position, int value, int width) {
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static final class DateFormats {
+        private final String pattern;
+        private final ZoneId zone;
+        private final ZoneRules rules;
+        private final Integer fixedOffset;
+        private final DateTimeFormatter formatter;
+        private final boolean fixedPattern;
+
+        private DateFormats(String pattern, ZoneId zone) {
+            this.pattern = pattern;
+            this.zone = zone;
+            this.rules = zone.getRules();
+            this.fixedOffset = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH).getTotalSeconds() : null;
+            this.formatter = DateTimeFormatter.ofPattern(pattern).withZone(zone);
+            this.fixedPattern = FIXED_PATTERN.equals(pattern);
+        }
     }
 }
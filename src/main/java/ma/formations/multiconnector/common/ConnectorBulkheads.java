@@ -0,0 +1,127 @@
+package ma.formations.multiconnector.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import ma.formations.multiconnector.enums.Connector;
+import ma.formations.multiconnector.service.exception.BulkheadFullException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Budget de concurrence par connecteur (REST, GraphQL, SOAP, gRPC) : au plus max-concurrent appels
+ * d'un connecteur en cours, les suivants attendent (file équitable) au plus acquire-timeout-ms puis
+ * sont refusés. Une rafale sur un protocole ne peut donc pas prendre toutes les connexions du pool
+ * partagé aux autres (la somme des budgets reste sous spring.datasource.hikari.maximum-pool-size).
+ * Le connecteur de l'appel en cours est attaché au thread (current()) pour les métriques du pool.
+ */
+@Component
+public class ConnectorBulkheads {
+    private static final ThreadLocal<Connector> CURRENT = new ThreadLocal<>();
+    private static final Permit REENTRANT = () -> {
+    };
+
+    private final Map<Connector, Bulkhead> bulkheads = new EnumMap<>(Connector.class);
+    private final long acquireTimeoutMs;
+
+    public ConnectorBulkheads(MeterRegistry meterRegistry,
+                              @Value("${bank.bulkhead.rest.max-concurrent:6}") int restMaxConcurrent,
+                              @Value("${bank.bulkhead.graphql.max-concurrent:3}") int graphqlMaxConcurrent,
+                              @Value("${bank.bulkhead.soap.max-concurrent:3}") int soapMaxConcurrent,
+                              @Value("${bank.bulkhead.grpc.max-concurrent:6}") int grpcMaxConcurrent,
+                              @Value("${bank.bulkhead.acquire-timeout-ms:500}") long acquireTimeoutMs) {
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        bulkheads.put(Connector.REST, new Bulkhead(Connector.REST, restMaxConcurrent, meterRegistry));
+        bulkheads.put(Connector.GRAPHQL, new Bulkhead(Connector.GRAPHQL, graphqlMaxConcurrent, meterRegistry));
+        bulkheads.put(Connector.SOAP, new Bulkhead(Connector.SOAP, soapMaxConcurrent, meterRegistry));
+        bulkheads.put(Connector.GRPC, new Bulkhead(Connector.GRPC, grpcMaxConcurrent, meterRegistry));
+    }
+
+    /**
+     * Connecteur de l'appel exécuté par le thread courant, null hors appel (démarrage, tâches de fond).
+     */
+    public static Connector current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Prend une place du connecteur pour le thread courant, à rendre par close().
+     * Réentrant : un thread déjà dans ce connecteur ne prend pas de seconde place.
+     */
+    public Permit enter(Connector connector) {
+        Connector previous = CURRENT.get();
+        if (previous == connector)
+            return REENTRANT;
+        Bulkhead bulkhead = bulkheads.get(connector);
+        bulkhead.acquire(acquireTimeoutMs);
+        CURRENT.set(connector);
+        return () -> {
+            if (previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+            bulkhead.release();
+        };
+    }
+
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class Bulkhead {
+        private final Connector connector;
+        private final Semaphore permits;
+        private final Timer waitTimer;
+        private final Counter rejected;
+
+        private Bulkhead(Connector connector, int maxConcurrent, MeterRegistry meterRegistry) {
+            this.connector = connector;
+            // 0 = pas de limite
+            int size = maxConcurrent > 0 ? maxConcurrent : Integer.MAX_VALUE;
+            this.permits = new Semaphore(size, true);
+            this.waitTimer = Timer.builder("bank.bulkhead.wait").
+                    description("Time spent waiting for a slot of the connector").
+                    tag("connector", connector.tag()).
+                    register(meterRegistry);
+            this.rejected = Counter.builder("bank.bulkhead.rejected").
+                    description("Calls refused because the connector had no free slot in time").
+                    tag("connector", connector.tag()).
+                    register(meterRegistry);
+            Gauge.builder("bank.bulkhead.active", permits, semaphore -> size - semaphore.availablePermits()).
+                    description("Calls of the connector in progress").
+                    tag("connector", connector.tag()).
+                    register(meterRegistry);
+            Gauge.builder("bank.bulkhead.queue", permits, Semaphore::getQueueLength).
+                    description("Calls of the connector waiting for a slot").
+                    tag("connector", connector.tag()).
+                    register(meterRegistry);
+        }
+
+        private void acquire(long timeoutMs) {
+            long start = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                rejected.increment();
+                throw new BulkheadFullException(String.format("too many concurrent %s calls, please retry later", connector.tag()));
+            }
+        }
+
+        private void release() {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ma.formations.multiconnector.common;
+
+import ma.formations.multiconnector.service.exception.BusinessException;
+
+import java.math.BigDecimal;
+
+/**
+ * Les soldes et montants sont stockés et calculés en unités mineures (centimes) dans un long :
+ * sommes exactes et aucune allocation par opération. La conversion depuis et vers les montants
+ * décimaux des DTO (JSON, proto double, GraphQL Float, SOAP) se fait uniquement aux bords.
+ */
+public final class Money {
+    // Nombre de décimales de la devise (centimes)
+    public static final int SCALE = 2;
+
+    private Money() {
+    }
+
+    /**
+     * Montant d'un virement : strictement positif, sinon débit et crédit s'inverseraient.
+     */
+    public static long toMinorUnits(Double amount) {
+        long minorUnits = toSignedMinorUnits(amount);
+        if (minorUnits <= 0)
+            throw new BusinessException(String.format("the amount %s must be positive", amount));
+        return minorUnits;
+    }
+
+    /**
+     * Solde d'ouverture d'un compte : nul ou négatif (découvert) accepté.
+     */
+    public static long toSignedMinorUnits(Double amount) {
+        if (amount == null)
+            throw new BusinessException("the amount is missing");
+        if (amount.isNaN() || amount.isInfinite())
+            throw new BusinessException(String.format("the amount %s is not a number", amount));
+        try {
+            // BigDecimal.valueOf passe par Double.toString : 0.1 reste 0.1 et non 0.1000000000000000055...
+            return BigDecimal.valueOf(amount).movePointRight(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new BusinessException(String.format("the amount %s can't have more than %s decimals", amount, SCALE));
+        }
+    }
+
+    public static Double toMajorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE).doubleValue();
+    }
+
+    public static String format(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE).toPlainString();
+    }
+}
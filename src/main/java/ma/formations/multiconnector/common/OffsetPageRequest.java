@@ -0,0 +1,112 @@
+package ma.formations.multiconnector.common;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Pageable par offset/limit : contrairement à PageRequest l'offset n'a pas à être un multiple
+ * de la taille de page (offset/limit SOAP, curseurs GraphQL, jetons de page gRPC).
+ */
+@EqualsAndHashCode
+@ToString
+public class OffsetPageRequest implements Pageable {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final long offset;
+    private final int limit;
+    private final Sort sort;
+
+    public OffsetPageRequest(long offset, int limit, Sort sort) {
+        if (offset < 0)
+            throw new BusinessException(String.format("the offset %s must not be negative", offset));
+        if (limit < 1)
+            throw new BusinessException(String.format("the limit %s must be greater than 0", limit));
+        this.offset = offset;
+        this.limit = limit;
+        this.sort = sort;
+    }
+
+    /**
+     * Borne la taille de page à MAX_PAGE_SIZE, n'accepte que les propriétés de tri autorisées
+     * et termine le tri par id pour que l'ordre des pages soit stable.
+     */
+    public static OffsetPageRequest bounded(Pageable requested, Set<String> sortable) {
+        if (requested.isUnpaged())
+            return new OffsetPageRequest(0, DEFAULT_PAGE_SIZE, Sort.by("id"));
+        for (Sort.Order order : requested.getSort()) {
+            if (!sortable.contains(order.getProperty()))
+                throw new BusinessException(String.format("the property %s can't be used to sort, use one of %s",
+                        order.getProperty(), sortable));
+        }
+        Sort sort = requested.getSort().getOrderFor("id") == null ? requested.getSort().and(Sort.by("id")) : requested.getSort();
+        return new OffsetPageRequest(requested.getOffset(), Math.min(requested.getPageSize(), MAX_PAGE_SIZE), sort);
+    }
+
+    /**
+     * Jeton opaque désignant une position dans la liste (curseur GraphQL, pageToken gRPC).
+     */
+    public static String token(long offset) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(offset).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static long offsetOf(String token) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(String.format("the page token %s is not valid", token));
+        }
+    }
+
+    @Override
+    public int getPageNumber() {
+        return (int) (offset / limit);
+    }
+
+    @Override
+    public int getPageSize() {
+        return limit;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public Sort getSort() {
+        return sort;
+    }
+
+    @Override
+    public Pageable next() {
+        return new OffsetPageRequest(offset + limit, limit, sort);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return new OffsetPageRequest(Math.max(0, offset - limit), limit, sort);
+    }
+
+    @Override
+    public Pageable first() {
+        return new OffsetPageRequest(0, limit, sort);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        return new OffsetPageRequest((long) pageNumber * limit, limit, sort);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+}
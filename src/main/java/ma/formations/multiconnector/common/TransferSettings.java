@@ -0,0 +1,33 @@
+package ma.formations.multiconnector.common;
+
+import lombok.Data;
+import ma.formations.multiconnector.enums.TransferMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+public class TransferSettings {
+
+    @Value("${bank.transfer.mode:ATOMIC}")
+    private TransferMode mode;
+
+    @Value("${bank.transfer.optimistic.max-attempts:5}")
+    private int optimisticMaxAttempts;
+
+    @Value("${bank.transfer.optimistic.backoff-ms:5}")
+    private long optimisticBackoffMs;
+
+    /**
+     * Nombre de virements d'un lot traités par transaction ; 0 ou moins revient à la valeur par défaut,
+     * un lot n'est jamais appliqué dans une seule transaction qui verrouillerait tous ses comptes.
+     */
+    @Value("${bank.transfer.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    /**
+     * Nombre maximal de virements d'un lot, au-delà le lot est refusé.
+     */
+    @Value("${bank.transfer.batch.max-size:10000}")
+    private int batchMaxSize;
+}
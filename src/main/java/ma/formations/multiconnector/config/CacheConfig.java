@@ -0,0 +1,36 @@
+package ma.formations.multiconnector.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches Caffeine des lectures par clé métier. Ils sont transactionnels : une éviction faite
+ * dans une transaction n'est appliquée qu'après son commit, jamais avant que la nouvelle valeur
+ * soit visible en base. Une lecture commencée avant ce commit ne remet pas l'ancienne valeur en cache
+ * après l'éviction (StampedCache).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String BANK_ACCOUNTS_BY_RIB = "bankAccountsByRib";
+    public static final String CUSTOMERS_BY_IDENTITY = "customersByIdentity";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${bank.cache.lookups.spec:maximumSize=10000,expireAfterWrite=60s,recordStats}") String spec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(BANK_ACCOUNTS_BY_RIB, CUSTOMERS_BY_IDENTITY) {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                return new StampedCache(super.adaptCaffeineCache(name, cache));
+            }
+        };
+        caffeineCacheManager.setCacheSpecification(spec);
+        caffeineCacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
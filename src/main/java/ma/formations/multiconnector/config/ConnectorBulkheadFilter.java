@@ -0,0 +1,83 @@
+package ma.formations.multiconnector.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import ma.formations.multiconnector.common.ConnectorBulkheads;
+import ma.formations.multiconnector.dtos.exception.ErrorResponse;
+import ma.formations.multiconnector.enums.Connector;
+import ma.formations.multiconnector.service.exception.BulkheadFullException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Applique le budget de leur connecteur aux requêtes REST, GraphQL et SOAP (les autres chemins :
+ * actuator, console H2, documentation, ne sont pas limités). Placé avant Spring Security pour que
+ * le chargement de l'utilisateur soit compté dans le connecteur. Refus : 503 avec Retry-After, écrit
+ * directement (un sendError passerait par /error, protégé par Spring Security).
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class ConnectorBulkheadFilter extends OncePerRequestFilter {
+    private static final String REST_PATH = "/api/rest";
+
+    private final ConnectorBulkheads bulkheads;
+    private final ObjectMapper objectMapper;
+    private final String graphqlPath;
+    private final String soapPath;
+
+    public ConnectorBulkheadFilter(ConnectorBulkheads bulkheads, ObjectMapper objectMapper,
+                                   @Value("${spring.graphql.path:/graphql}") String graphqlPath,
+                                   @Value("${cxf.path:/services}") String soapPath) {
+        this.bulkheads = bulkheads;
+        this.objectMapper = objectMapper;
+        this.graphqlPath = graphqlPath;
+        this.soapPath = soapPath;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Connector connector = connectorOf(request.getRequestURI().substring(request.getContextPath().length()));
+        if (connector == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ConnectorBulkheads.Permit permit;
+        try {
+            permit = bulkheads.enter(connector);
+        } catch (BulkheadFullException e) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new ErrorResponse("Service busy", List.of(e.getMessage())));
+            return;
+        }
+        try (permit) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private Connector connectorOf(String path) {
+        if (startsWithSegment(path, REST_PATH))
+            return Connector.REST;
+        if (startsWithSegment(path, graphqlPath))
+            return Connector.GRAPHQL;
+        if (startsWithSegment(path, soapPath))
+            return Connector.SOAP;
+        return null;
+    }
+
+    private static boolean startsWithSegment(String path, String prefix) {
+        return path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
+    }
+}
@@ -0,0 +1,31 @@
+package ma.formations.multiconnector.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+
+/**
+ * Enveloppe chaque pool Hikari dans un ConnectorMeteredDataSource, une fois le pool configuré
+ * (spring.datasource.hikari.*). Les métriques Hikari de Spring Boot retrouvent le pool par unwrap.
+ */
+@Configuration
+public class ConnectorDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor connectorMeteredDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikariDataSource)
+                    return new ConnectorMeteredDataSource(hikariDataSource,
+                            Objects.requireNonNullElse(hikariDataSource.getPoolName(), beanName), meterRegistry.getObject());
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package ma.formations.multiconnector.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import ma.formations.multiconnector.common.ConnectorBulkheads;
+import ma.formations.multiconnector.enums.Connector;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool de connexions vu par connecteur : temps d'obtention d'une connexion (bank.datasource.connection.wait)
+ * et connexions empruntées (bank.datasource.connection.active), étiquetés par le connecteur de l'appel
+ * en cours (ConnectorBulkheads.current(), "none" hors appel). Les métriques globales du pool restent
+ * celles de Hikari (hikaricp.connections.*).
+ */
+public class ConnectorMeteredDataSource extends DelegatingDataSource {
+    private static final String NONE = "none";
+
+    private final Map<String, Timer> waitTimers = new HashMap<>();
+    private final Map<String, AtomicInteger> activeConnections = new HashMap<>();
+
+    public ConnectorMeteredDataSource(DataSource target, String pool, MeterRegistry meterRegistry) {
+        super(target);
+        for (Connector connector : Connector.values())
+            register(connector.tag(), pool, meterRegistry);
+        register(NONE, pool, meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return borrow(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return borrow(() -> super.getConnection(username, password));
+    }
+
+    private void register(String connector, String pool, MeterRegistry meterRegistry) {
+        waitTimers.put(connector, Timer.builder("bank.datasource.connection.wait").
+                description("Time to obtain a pooled connection, by connector").
+                tag("connector", connector).
+                tag("pool", pool).
+                register(meterRegistry));
+        AtomicInteger active = new AtomicInteger();
+        activeConnections.put(connector, active);
+        Gauge.builder("bank.datasource.connection.active", active, AtomicInteger::get).
+                description("Pooled connections borrowed, by connector").
+                tag("connector", connector).
+                tag("pool", pool).
+                register(meterRegistry);
+    }
+
+    private Connection borrow(ConnectionSupplier supplier) throws SQLException {
+        Connector current = ConnectorBulkheads.current();
+        String connector = current != null ? current.tag() : NONE;
+        long start = System.nanoTime();
+        Connection connection = supplier.get();
+        waitTimers.get(connector).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        AtomicInteger active = activeConnections.get(connector);
+        active.incrementAndGet();
+        return tracked(connection, active);
+    }
+
+    // La connexion est décomptée à son premier close(), quel que soit le thread qui la rend
+    private static Connection tracked(Connection connection, AtomicInteger active) {
+        AtomicBoolean returned = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectorMeteredDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if ("equals".equals(method.getName()))
+                        return proxy == args[0];
+                    if ("hashCode".equals(method.getName()))
+                        return System.identityHashCode(proxy);
+                    if ("close".equals(method.getName()) && returned.compareAndSet(false, true))
+                        active.decrementAndGet();
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
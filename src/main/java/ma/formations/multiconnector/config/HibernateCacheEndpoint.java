@@ -0,0 +1,62 @@
+package ma.formations.multiconnector.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * /actuator/hibernatecache : statistiques du cache de second niveau et du cache de requêtes, par région.
+ * Les compteurs ne sont alimentés que si hibernate.generate_statistics est activé.
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+    private final Statistics statistics;
+
+    public HibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, Object> cacheStatistics() {
+        Map<String, Object> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null)
+                regions.put(regionName, region(region));
+        }
+
+        Map<String, Object> queries = new LinkedHashMap<>();
+        queries.put("hits", statistics.getQueryCacheHitCount());
+        queries.put("misses", statistics.getQueryCacheMissCount());
+        queries.put("puts", statistics.getQueryCachePutCount());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("secondLevelHits", statistics.getSecondLevelCacheHitCount());
+        result.put("secondLevelMisses", statistics.getSecondLevelCacheMissCount());
+        result.put("secondLevelPuts", statistics.getSecondLevelCachePutCount());
+        result.put("queryCache", queries);
+        result.put("regions", regions);
+        return result;
+    }
+
+    private static Map<String, Object> region(CacheRegionStatistics region) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("hits", region.getHitCount());
+        values.put("misses", region.getMissCount());
+        values.put("puts", region.getPutCount());
+        // JCache ne donne pas le nombre d'entrées : la valeur n'est exposée que si elle est connue
+        if (region.getElementCountInMemory() >= 0)
+            values.put("elementsInMemory", region.getElementCountInMemory());
+        return values;
+    }
+}
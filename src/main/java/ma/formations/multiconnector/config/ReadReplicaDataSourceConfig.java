@@ -0,0 +1,72 @@
+package ma.formations.multiconnector.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Lecture sur réplique (bank.datasource.replica.enabled=true) : les transactions readOnly vont au pool
+ * de la réplique, tout le reste (écritures, virements, hors transaction) au pool principal.
+ * Le choix se fait à la première requête SQL, quand le caractère readOnly de la transaction est connu :
+ * c'est le rôle du LazyConnectionDataSourceProxy placé devant le routage.
+ * Une réplique asynchrone peut être en retard sur le principal : une lecture juste après une écriture
+ * peut ne pas la voir encore. Les lectures mises en cache (compte par RIB, client par identité) restent
+ * sur le principal : le cache, invalidé par l'écriture, ne doit pas être rempli à nouveau avec l'ancienne valeur.
+ */
+@Configuration
+@ConditionalOnProperty(name = "bank.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+    private enum Route {
+        PRIMARY, REPLICA
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("bank.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${bank.datasource.replica.url}") String url,
+                                              @Value("${bank.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${bank.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        return DataSourceBuilder.create().
+                type(HikariDataSource.class).
+                driverClassName(properties.determineDriverClassName()).
+                url(url).
+                username(username).
+                password(password).
+                build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        AbstractRoutingDataSource routingDataSource = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+            }
+        };
+        routingDataSource.setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
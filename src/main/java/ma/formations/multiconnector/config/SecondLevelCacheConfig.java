@@ -0,0 +1,54 @@
+package ma.formations.multiconnector.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * Régions du cache de second niveau Hibernate (JCache implémenté par Caffeine) pour les données
+ * de référence de la sécurité : rôles, permissions et leurs associations, plus les requêtes findByAuthority.
+ * Les régions sont créées ici avec leur taille maximale puis le CacheManager est passé à Hibernate.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheRegions(
+            @Value("${bank.cache.second-level.reference-max-size:1000}") long referenceMaxSize,
+            @Value("${bank.cache.second-level.user-roles-max-size:10000}") long userRolesMaxSize,
+            @Value("${bank.cache.second-level.query-max-size:1000}") long queryMaxSize) {
+        return properties -> {
+            CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+            region(cacheManager, "roles", referenceMaxSize);
+            region(cacheManager, "permissions", referenceMaxSize);
+            region(cacheManager, "role-permissions", referenceMaxSize);
+            region(cacheManager, "user-roles", userRolesMaxSize);
+            region(cacheManager, "authority-queries", queryMaxSize);
+            region(cacheManager, QUERY_RESULTS_REGION, queryMaxSize);
+            // Les horodatages de mise à jour des tables ne doivent jamais être évincés
+            region(cacheManager, TIMESTAMPS_REGION, 0);
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        };
+    }
+
+    // Un contexte Spring déjà démarré dans la même JVM (tests) a pu créer la région : elle est réutilisée
+    private static void region(CacheManager cacheManager, String name, long maxSize) {
+        if (cacheManager.getCache(name) != null)
+            return;
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxSize > 0)
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -36,6 +37,7 @@ import java.util.List;
 @EnableMethodSecurity
 public class SecurityConfiguration {
     private UserDetailsService userDetailsService;
+    private UserDetailsPasswordService userDetailsPasswordService;
     private PasswordEncoder passwordEncoder;
     private AuthTokenFilter authTokenFilter;
     private AuthEntryPointJwt unauthorizedHandler;
@@ -51,6 +53,8 @@ public class SecurityConfiguration {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService);
         authenticationProvider.setPasswordEncoder(passwordEncoder);
+        // Re-hachage transparent à la connexion quand le coût BCrypt configuré change
+        authenticationProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authenticationProvider;
     }
 
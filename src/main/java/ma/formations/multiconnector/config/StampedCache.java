@@ -0,0 +1,104 @@
+package ma.formations.multiconnector.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cache de lecture protégé contre la remise en cache d'une valeur périmée. Une lecture qui a lu la base
+ * avant un commit peut faire son put (différé à son propre commit par TransactionAwareCacheManagerProxy)
+ * après l'éviction de ce commit. Chaque éviction incrémente le tampon de la clé ; un défaut de cache note
+ * le tampon avant la lecture en base, et le put qui suit, sur le même thread, évince à nouveau la clé si
+ * le tampon a changé entre-temps.
+ */
+class StampedCache implements Cache {
+    private static final int STRIPES = 1024;
+
+    private final Cache target;
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+    // Dernier défaut de cache du thread : clé et tampon lu avant le chargement
+    private final ThreadLocal<Miss> lastMiss = new ThreadLocal<>();
+
+    StampedCache(Cache target) {
+        this.target = target;
+    }
+
+    @Override
+    public String getName() {
+        return target.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return target.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long stamp = stamps.get(stripe(key));
+        ValueWrapper value = target.get(key);
+        if (value == null)
+            lastMiss.set(new Miss(key, stamp));
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return target.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return target.get(key, valueLoader);
+    }
+
+    /**
+     * Put d'une valeur chargée après un défaut de cache du même thread ; sans tampon noté pour cette clé
+     * (autre clé lue entre-temps), la valeur n'est pas mise en cache.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        Miss miss = lastMiss.get();
+        if (miss == null || !miss.key().equals(key))
+            return;
+        lastMiss.remove();
+        target.put(key, value);
+        // Une éviction passée depuis la lecture en base, avant ou après ce put, l'annule
+        if (stamps.get(stripe(key)) != miss.stamp())
+            target.evict(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        stamps.incrementAndGet(stripe(key));
+        target.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        stamps.incrementAndGet(stripe(key));
+        return target.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < STRIPES; i++)
+            stamps.incrementAndGet(i);
+        target.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        for (int i = 0; i < STRIPES; i++)
+            stamps.incrementAndGet(i);
+        return target.invalidate();
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), STRIPES);
+    }
+
+    private record Miss(Object key, long stamp) {
+    }
+}
@@ -1,10 +1,59 @@
 package ma.formations.multiconnector.dao;
 
+import jakarta.persistence.LockModeType;
+import ma.formations.multiconnector.enums.AccountStatus;
 import ma.formations.multiconnector.service.model.BankAccount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BankAccountRepository extends JpaRepository<BankAccount, Long> {
     Optional<BankAccount> findByRib(String rib);
+
+    boolean existsByRib(String rib);
+
+    Slice<BankAccount> findAllBy(Pageable pageable);
+
+    // Pagination par clé sur id (flux gRPC) : servies par la clé primaire, le coût d'une page ne dépend pas
+    // de sa position dans la liste
+    @Query("select b from BankAccount b where b.id > :id order by b.id")
+    List<BankAccount> findPageAfter(@Param("id") Long id, Pageable limit);
+
+    @Query("select b from BankAccount b where b.id < :id order by b.id desc")
+    List<BankAccount> findPageBefore(@Param("id") Long id, Pageable limit);
+
+    /**
+     * SELECT ... FOR UPDATE : la ligne reste verrouillée jusqu'à la fin de la transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from BankAccount b where b.rib = :rib")
+    Optional<BankAccount> findByRibForUpdate(@Param("rib") String rib);
+
+    List<BankAccount> findByRibIn(Collection<String> ribs);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from BankAccount b where b.rib in :ribs order by b.rib")
+    List<BankAccount> findByRibInForUpdate(@Param("ribs") Collection<String> ribs);
+
+    /**
+     * Débit conditionnel en une seule requête : renvoie 0 si le compte n'existe pas,
+     * n'a pas le statut demandé ou si son solde est insuffisant. Le montant est en unités mineures (Money).
+     */
+    @Modifying
+    @Query("update BankAccount b set b.amount = b.amount - :amount, b.version = b.version + 1 " +
+            "where b.rib = :rib and b.amount >= :amount and b.accountStatus = :status")
+    int debit(@Param("rib") String rib, @Param("amount") long amount, @Param("status") AccountStatus status);
+
+    @Modifying
+    @Query("update BankAccount b set b.amount = b.amount + :amount, b.version = b.version + 1 " +
+            "where b.rib = :rib and b.accountStatus = :status")
+    int credit(@Param("rib") String rib, @Param("amount") long amount, @Param("status") AccountStatus status);
 }
@@ -1,11 +1,31 @@
 package ma.formations.multiconnector.dao;
 
 import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Date;
 import java.util.List;
 
 public interface BankAccountTransactionRepository extends JpaRepository<BankAccountTransaction, Long> {
-    List<BankAccountTransaction> findByBankAccount_RibAndCreatedAtBetween(String rib, Date from, Date to);
+    // Jointure interne (la requête dérivée fait un left join) : le compte est trouvé par l'index du RIB,
+    // puis ses opérations par l'index (bank_account_id, created_at, id)
+    @Query("select t from BankAccountTransaction t join t.bankAccount b where b.rib = :rib " +
+            "and t.createdAt between :from and :to")
+    List<BankAccountTransaction> findByBankAccount_RibAndCreatedAtBetween(@Param("rib") String rib,
+                                                                          @Param("from") Date from, @Param("to") Date to);
+
+    // Pagination par clé (createdAt, id) : servies par l'index (bank_account_id, created_at, id),
+    // le coût d'une page ne dépend pas de sa profondeur dans l'historique
+    @Query("select t from BankAccountTransaction t where t.bankAccount.id = :bankAccountId " +
+            "and t.createdAt between :from and :to order by t.createdAt, t.id")
+    List<BankAccountTransaction> findHistory(@Param("bankAccountId") Long bankAccountId,
+                                             @Param("from") Date from, @Param("to") Date to, Pageable limit);
+
+    @Query("select t from BankAccountTransaction t where t.bankAccount.id = :bankAccountId and t.createdAt <= :to " +
+            "and (t.createdAt > :createdAt or (t.createdAt = :createdAt and t.id > :id)) order by t.createdAt, t.id")
+    List<BankAccountTransaction> findHistoryAfter(@Param("bankAccountId") Long bankAccountId, @Param("to") Date to,
+                                                  @Param("createdAt") Date createdAt, @Param("id") Long id, Pageable limit);
 }
@@ -1,6 +1,8 @@
 package ma.formations.multiconnector.dao;
 
 import ma.formations.multiconnector.service.model.Customer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -10,5 +12,7 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     Optional<Customer> findByUsername(String username);
 
+    Slice<Customer> findAllBy(Pageable pageable);
+
 
 }
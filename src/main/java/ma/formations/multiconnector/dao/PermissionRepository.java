@@ -1,10 +1,16 @@
 package ma.formations.multiconnector.dao;
 
+import jakarta.persistence.QueryHint;
 import ma.formations.multiconnector.service.model.Permission;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface PermissionRepository extends JpaRepository<Permission, Integer> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "authority-queries")})
     Optional<Permission> findByAuthority(String authority);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AddWirerTransferBatchRequest {
+    @Builder.Default
+    private List<AddWirerTransferRequest> transfers = new ArrayList<>();
+}
@@ -0,0 +1,20 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AddWirerTransferBatchResponse {
+    private int succeeded;
+    private int failed;
+    @Builder.Default
+    private List<WirerTransferResult> results = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class GetTransactionPageRequest {
+    private String rib;
+    private String dateTo;
+    private String dateFrom;
+    // Curseur opaque renvoyé par la page précédente (nextCursor), vide pour la première page
+    private String cursor;
+    private Integer size;
+}
@@ -0,0 +1,20 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class TransactionPageDto {
+    @Builder.Default
+    private List<TransactionDto> transactions = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,19 @@
+package ma.formations.multiconnector.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Résultat d'un virement d'un lot : index est la position du virement dans la requête.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WirerTransferResult {
+    private int index;
+    private boolean success;
+    private String message;
+}
@@ -0,0 +1,11 @@
+package ma.formations.multiconnector.enums;
+
+import java.util.Locale;
+
+public enum Connector {
+    REST, GRAPHQL, SOAP, GRPC;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
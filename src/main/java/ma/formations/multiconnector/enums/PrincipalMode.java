@@ -0,0 +1,5 @@
+package ma.formations.multiconnector.enums;
+
+public enum PrincipalMode {
+    CACHE, CLAIMS
+}
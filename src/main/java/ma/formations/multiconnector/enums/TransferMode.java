@@ -0,0 +1,5 @@
+package ma.formations.multiconnector.enums;
+
+public enum TransferMode {
+    PESSIMISTIC, OPTIMISTIC, ATOMIC
+}
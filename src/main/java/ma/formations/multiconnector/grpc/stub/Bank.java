@@ -17,8 +17,49 @@ public final class Bank {
   public interface CustomersRequestOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CustomersRequest)
       com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 pageSize = 1;</code>
+     * @return The pageSize.
+     */
+    int getPageSize();
+
+    /**
+     * <code>string pageToken = 2;</code>
+     * @return The pageToken.
+     */
+    java.lang.String getPageToken();
+    /**
+     * <code>string pageToken = 2;</code>
+     * @return The bytes for pageToken.
+     */
+    com.google.protobuf.ByteString
+        getPageTokenBytes();
+
+    /**
+     * <code>string orderBy = 3;</code>
+     * @return The orderBy.
+     */
+    java.lang.String getOrderBy();
+    /**
+     * <code>string orderBy = 3;</code>
+     * @return The bytes for orderBy.
+     */
+    com.google.protobuf.ByteString
+        getOrderByBytes();
+
+    /**
+     * <code>bool descending = 4;</code>
+     * @return The descending.
+     */
+    boolean getDescending();
   }
   /**
+   * <pre>
+   * pageSize à 0 : liste complète, sinon une page de pageSize éléments (500 au plus)
+   * à partir de pageToken (nextPageToken de la page précédente, vide pour la première)
+   * </pre>
+   *
    * Protobuf type {@code CustomersRequest}
    */
   public  static final class CustomersRequest extends
@@ -31,6 +72,8 @@ public final class Bank {
       super(builder);
     }
     private CustomersRequest() {
+      pageToken_ = "";
+      orderBy_ = "";
     }
 
     @java.lang.Override
@@ -63,6 +106,28 @@ public final class Bank {
             case 0:
               done = true;
               break;
+            case 8: {
+
+              pageSize_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              pageToken_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              orderBy_ = s;
+              break;
+            }
+            case 32: {
+
+              descending_ = input.readBool();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -95,6 +160,98 @@ public final class Bank {
               ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest.class, ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest.Builder.class);
     }
 
+    public static final int PAGESIZE_FIELD_NUMBER = 1;
+    private int pageSize_;
+    /**
+     * <code>int32 pageSize = 1;</code>
+     * @return The pageSize.
+     */
+    public int getPageSize() {
+      return pageSize_;
+    }
+
+    public static final int PAGETOKEN_FIELD_NUMBER = 2;
+    private volatile java.lang.Object pageToken_;
+    /**
+     * <code>string pageToken = 2;</code>
+     * @return The pageToken.
+     */
+    public java.lang.String getPageToken() {
+      java.lang.Object ref = pageToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        pageToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string pageToken = 2;</code>
+     * @return The bytes for pageToken.
+     */
+    public com.google.protobuf.ByteString
+        getPageTokenBytes() {
+      java.lang.Object ref = pageToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        pageToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ORDERBY_FIELD_NUMBER = 3;
+    private volatile java.lang.Object orderBy_;
+    /**
+     * <code>string orderBy = 3;</code>
+     * @return The orderBy.
+     */
+    public java.lang.String getOrderBy() {
+      java.lang.Object ref = orderBy_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        orderBy_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string orderBy = 3;</code>
+     * @return The bytes for orderBy.
+     */
+    public com.google.protobuf.ByteString
+        getOrderByBytes() {
+      java.lang.Object ref = orderBy_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        orderBy_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESCENDING_FIELD_NUMBER = 4;
+    private boolean descending_;
+    /**
+     * <code>bool descending = 4;</code>
+     * @return The descending.
+     */
+    public boolean getDescending() {
+      return descending_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -109,6 +266,18 @@ public final class Bank {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      if (pageSize_ != 0) {
+        output.writeInt32(1, pageSize_);
+      }
+      if (!getPageTokenBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, pageToken_);
+      }
+      if (!getOrderByBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, orderBy_);
+      }
+      if (descending_ != false) {
+        output.writeBool(4, descending_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -118,6 +287,20 @@ public final class Bank {
       if (size != -1) return size;
 
       size = 0;
+      if (pageSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, pageSize_);
+      }
+      if (!getPageTokenBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, pageToken_);
+      }
+      if (!getOrderByBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, orderBy_);
+      }
+      if (descending_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, descending_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -133,6 +316,14 @@ public final class Bank {
       }
       ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest other = (ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest) obj;
 
+      if (getPageSize()
+          != other.getPageSize()) return false;
+      if (!getPageToken()
+          .equals(other.getPageToken())) return false;
+      if (!getOrderBy()
+          .equals(other.getOrderBy())) return false;
+      if (getDescending()
+          != other.getDescending()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -144,6 +335,15 @@ public final class Bank {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PAGESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPageSize();
+      hash = (37 * hash) + PAGETOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getPageToken().hashCode();
+      hash = (37 * hash) + ORDERBY_FIELD_NUMBER;
+      hash = (53 * hash) + getOrderBy().hashCode();
+      hash = (37 * hash) + DESCENDING_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getDescending());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -240,6 +440,11 @@ public final class Bank {
       return builder;
     }
     /**
+     * <pre>
+     * pageSize à 0 : liste complète, sinon une page de pageSize éléments (500 au plus)
+     * à partir de pageToken (nextPageToken de la page précédente, vide pour la première)
+     * </pre>
+     *
      * Protobuf type {@code CustomersRequest}
      */
     public static final class Builder extends
@@ -277,6 +482,14 @@ public final class Bank {
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        pageSize_ = 0;
+
+        pageToken_ = "";
+
+        orderBy_ = "";
+
+        descending_ = false;
+
         return this;
       }
 
@@ -303,6 +516,10 @@ public final class Bank {
       @java.lang.Override
       public ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest buildPartial() {
         ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest result = new ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest(this);
+        result.pageSize_ = pageSize_;
+        result.pageToken_ = pageToken_;
+        result.orderBy_ = orderBy_;
+        result.descending_ = descending_;
         onBuilt();
         return result;
       }
@@ -351,6 +568,20 @@ public final class Bank {
 
       public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest other) {
         if (other == ma.formations.multiconnector.grpc.stub.Bank.CustomersRequest.getDefaultInstance()) return this;
+        if (other.getPageSize() != 0) {
+          setPageSize(other.getPageSize());
+        }
+        if (!other.getPageToken().isEmpty()) {
+          pageToken_ = other.pageToken_;
+          onChanged();
+        }
+        if (!other.getOrderBy().isEmpty()) {
+          orderBy_ = other.orderBy_;
+          onChanged();
+        }
+        if (other.getDescending() != false) {
+          setDescending(other.getDescending());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -379,6 +610,218 @@ public final class Bank {
         }
         return this;
       }
+
+      private int pageSize_ ;
+      /**
+       * <code>int32 pageSize = 1;</code>
+       * @return The pageSize.
+       */
+      public int getPageSize() {
+        return pageSize_;
+      }
+      /**
+       * <code>int32 pageSize = 1;</code>
+       * @param value The pageSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageSize(int value) {
+        
+        pageSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 pageSize = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageSize() {
+        
+        pageSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object pageToken_ = "";
+      /**
+       * <code>string pageToken = 2;</code>
+       * @return The pageToken.
+       */
+      public java.lang.String getPageToken() {
+        java.lang.Object ref = pageToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          pageToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string pageToken = 2;</code>
+       * @return The bytes for pageToken.
+       */
+      public com.google.protobuf.ByteString
+          getPageTokenBytes() {
+        java.lang.Object ref = pageToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          pageToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string pageToken = 2;</code>
+       * @param value The pageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        pageToken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string pageToken = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageToken() {
+        
+        pageToken_ = getDefaultInstance().getPageToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string pageToken = 2;</code>
+       * @param value The bytes for pageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        pageToken_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object orderBy_ = "";
+      /**
+       * <code>string orderBy = 3;</code>
+       * @return The orderBy.
+       */
+      public java.lang.String getOrderBy() {
+        java.lang.Object ref = orderBy_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          orderBy_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string orderBy = 3;</code>
+       * @return The bytes for orderBy.
+       */
+      public com.google.protobuf.ByteString
+          getOrderByBytes() {
+        java.lang.Object ref = orderBy_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          orderBy_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string orderBy = 3;</code>
+       * @param value The orderBy to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrderBy(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        orderBy_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string orderBy = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrderBy() {
+        
+        orderBy_ = getDefaultInstance().getOrderBy();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string orderBy = 3;</code>
+       * @param value The bytes for orderBy to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrderByBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        orderBy_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean descending_ ;
+      /**
+       * <code>bool descending = 4;</code>
+       * @return The descending.
+       */
+      public boolean getDescending() {
+        return descending_;
+      }
+      /**
+       * <code>bool descending = 4;</code>
+       * @param value The descending to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescending(boolean value) {
+        
+        descending_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool descending = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDescending() {
+        
+        descending_ = false;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -459,7 +902,19 @@ public final class Bank {
      */
     ma.formations.multiconnector.grpc.stub.Bank.CustomerDTOOrBuilder getCustomersOrBuilder(
         int index);
-  }
+
+    /**
+     * <code>string nextPageToken = 2;</code>
+     * @return The nextPageToken.
+     */
+    java.lang.String getNextPageToken();
+    /**
+     * <code>string nextPageToken = 2;</code>
+     * @return The bytes for nextPageToken.
+     */
+    com.google.protobuf.ByteString
+        getNextPageTokenBytes();
+  }
   /**
    * Protobuf type {@code CustomersResponse}
    */
@@ -474,6 +929,7 @@ public final class Bank {
     }
     private CustomersResponse() {
       customers_ = java.util.Collections.emptyList();
+      nextPageToken_ = "";
     }
 
     @java.lang.Override
@@ -516,6 +972,12 @@ public final class Bank {
                   input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.CustomerDTO.parser(), extensionRegistry));
               break;
             }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              nextPageToken_ = s;
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -586,6 +1048,42 @@ public final class Bank {
       return customers_.get(index);
     }
 
+    public static final int NEXTPAGETOKEN_FIELD_NUMBER = 2;
+    private volatile java.lang.Object nextPageToken_;
+    /**
+     * <code>string nextPageToken = 2;</code>
+     * @return The nextPageToken.
+     */
+    public java.lang.String getNextPageToken() {
+      java.lang.Object ref = nextPageToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextPageToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string nextPageToken = 2;</code>
+     * @return The bytes for nextPageToken.
+     */
+    public com.google.protobuf.ByteString
+        getNextPageTokenBytes() {
+      java.lang.Object ref = nextPageToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextPageToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -603,6 +1101,9 @@ public final class Bank {
       for (int i = 0; i < customers_.size(); i++) {
         output.writeMessage(1, customers_.get(i));
       }
+      if (!getNextPageTokenBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, nextPageToken_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -616,6 +1117,9 @@ public final class Bank {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, customers_.get(i));
       }
+      if (!getNextPageTokenBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, nextPageToken_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -633,6 +1137,8 @@ public final class Bank {
 
       if (!getCustomersList()
           .equals(other.getCustomersList())) return false;
+      if (!getNextPageToken()
+          .equals(other.getNextPageToken())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -648,6 +1154,8 @@ public final class Bank {
         hash = (37 * hash) + CUSTOMERS_FIELD_NUMBER;
         hash = (53 * hash) + getCustomersList().hashCode();
       }
+      hash = (37 * hash) + NEXTPAGETOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getNextPageToken().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -788,6 +1296,8 @@ public final class Bank {
         } else {
           customersBuilder_.clear();
         }
+        nextPageToken_ = "";
+
         return this;
       }
 
@@ -824,6 +1334,7 @@ public final class Bank {
         } else {
           result.customers_ = customersBuilder_.build();
         }
+        result.nextPageToken_ = nextPageToken_;
         onBuilt();
         return result;
       }
@@ -898,6 +1409,10 @@ public final class Bank {
             }
           }
         }
+        if (!other.getNextPageToken().isEmpty()) {
+          nextPageToken_ = other.nextPageToken_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -1167,6 +1682,82 @@ public final class Bank {
         }
         return customersBuilder_;
       }
+
+      private java.lang.Object nextPageToken_ = "";
+      /**
+       * <code>string nextPageToken = 2;</code>
+       * @return The nextPageToken.
+       */
+      public java.lang.String getNextPageToken() {
+        java.lang.Object ref = nextPageToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextPageToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string nextPageToken = 2;</code>
+       * @return The bytes for nextPageToken.
+       */
+      public com.google.protobuf.ByteString
+          getNextPageTokenBytes() {
+        java.lang.Object ref = nextPageToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextPageToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string nextPageToken = 2;</code>
+       * @param value The nextPageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextPageToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        nextPageToken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string nextPageToken = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNextPageToken() {
+        
+        nextPageToken_ = getDefaultInstance().getNextPageToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string nextPageToken = 2;</code>
+       * @param value The bytes for nextPageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextPageTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        nextPageToken_ = value;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -9989,8 +10580,48 @@ public final class Bank {
   public interface BankAccountsRequestOrBuilder extends
       // @@protoc_insertion_point(interface_extends:BankAccountsRequest)
       com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 pageSize = 1;</code>
+     * @return The pageSize.
+     */
+    int getPageSize();
+
+    /**
+     * <code>string pageToken = 2;</code>
+     * @return The pageToken.
+     */
+    java.lang.String getPageToken();
+    /**
+     * <code>string pageToken = 2;</code>
+     * @return The bytes for pageToken.
+     */
+    com.google.protobuf.ByteString
+        getPageTokenBytes();
+
+    /**
+     * <code>string orderBy = 3;</code>
+     * @return The orderBy.
+     */
+    java.lang.String getOrderBy();
+    /**
+     * <code>string orderBy = 3;</code>
+     * @return The bytes for orderBy.
+     */
+    com.google.protobuf.ByteString
+        getOrderByBytes();
+
+    /**
+     * <code>bool descending = 4;</code>
+     * @return The descending.
+     */
+    boolean getDescending();
   }
   /**
+   * <pre>
+   * Même pagination que CustomersRequest
+   * </pre>
+   *
    * Protobuf type {@code BankAccountsRequest}
    */
   public  static final class BankAccountsRequest extends
@@ -10003,6 +10634,8 @@ public final class Bank {
       super(builder);
     }
     private BankAccountsRequest() {
+      pageToken_ = "";
+      orderBy_ = "";
     }
 
     @java.lang.Override
@@ -10035,6 +10668,28 @@ public final class Bank {
             case 0:
               done = true;
               break;
+            case 8: {
+
+              pageSize_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              pageToken_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              orderBy_ = s;
+              break;
+            }
+            case 32: {
+
+              descending_ = input.readBool();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -10067,6 +10722,98 @@ public final class Bank {
               ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest.class, ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest.Builder.class);
     }
 
+    public static final int PAGESIZE_FIELD_NUMBER = 1;
+    private int pageSize_;
+    /**
+     * <code>int32 pageSize = 1;</code>
+     * @return The pageSize.
+     */
+    public int getPageSize() {
+      return pageSize_;
+    }
+
+    public static final int PAGETOKEN_FIELD_NUMBER = 2;
+    private volatile java.lang.Object pageToken_;
+    /**
+     * <code>string pageToken = 2;</code>
+     * @return The pageToken.
+     */
+    public java.lang.String getPageToken() {
+      java.lang.Object ref = pageToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        pageToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string pageToken = 2;</code>
+     * @return The bytes for pageToken.
+     */
+    public com.google.protobuf.ByteString
+        getPageTokenBytes() {
+      java.lang.Object ref = pageToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        pageToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ORDERBY_FIELD_NUMBER = 3;
+    private volatile java.lang.Object orderBy_;
+    /**
+     * <code>string orderBy = 3;</code>
+     * @return The orderBy.
+     */
+    public java.lang.String getOrderBy() {
+      java.lang.Object ref = orderBy_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        orderBy_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string orderBy = 3;</code>
+     * @return The bytes for orderBy.
+     */
+    public com.google.protobuf.ByteString
+        getOrderByBytes() {
+      java.lang.Object ref = orderBy_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        orderBy_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESCENDING_FIELD_NUMBER = 4;
+    private boolean descending_;
+    /**
+     * <code>bool descending = 4;</code>
+     * @return The descending.
+     */
+    public boolean getDescending() {
+      return descending_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -10081,6 +10828,18 @@ public final class Bank {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      if (pageSize_ != 0) {
+        output.writeInt32(1, pageSize_);
+      }
+      if (!getPageTokenBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, pageToken_);
+      }
+      if (!getOrderByBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, orderBy_);
+      }
+      if (descending_ != false) {
+        output.writeBool(4, descending_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -10090,6 +10849,20 @@ public final class Bank {
       if (size != -1) return size;
 
       size = 0;
+      if (pageSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, pageSize_);
+      }
+      if (!getPageTokenBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, pageToken_);
+      }
+      if (!getOrderByBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, orderBy_);
+      }
+      if (descending_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, descending_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -10105,6 +10878,14 @@ public final class Bank {
       }
       ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest other = (ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest) obj;
 
+      if (getPageSize()
+          != other.getPageSize()) return false;
+      if (!getPageToken()
+          .equals(other.getPageToken())) return false;
+      if (!getOrderBy()
+          .equals(other.getOrderBy())) return false;
+      if (getDescending()
+          != other.getDescending()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -10116,6 +10897,15 @@ public final class Bank {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PAGESIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPageSize();
+      hash = (37 * hash) + PAGETOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getPageToken().hashCode();
+      hash = (37 * hash) + ORDERBY_FIELD_NUMBER;
+      hash = (53 * hash) + getOrderBy().hashCode();
+      hash = (37 * hash) + DESCENDING_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getDescending());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -10212,6 +11002,10 @@ public final class Bank {
       return builder;
     }
     /**
+     * <pre>
+     * Même pagination que CustomersRequest
+     * </pre>
+     *
      * Protobuf type {@code BankAccountsRequest}
      */
     public static final class Builder extends
@@ -10249,6 +11043,14 @@ public final class Bank {
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        pageSize_ = 0;
+
+        pageToken_ = "";
+
+        orderBy_ = "";
+
+        descending_ = false;
+
         return this;
       }
 
@@ -10275,6 +11077,10 @@ public final class Bank {
       @java.lang.Override
       public ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest buildPartial() {
         ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest result = new ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest(this);
+        result.pageSize_ = pageSize_;
+        result.pageToken_ = pageToken_;
+        result.orderBy_ = orderBy_;
+        result.descending_ = descending_;
         onBuilt();
         return result;
       }
@@ -10323,6 +11129,20 @@ public final class Bank {
 
       public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest other) {
         if (other == ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest.getDefaultInstance()) return this;
+        if (other.getPageSize() != 0) {
+          setPageSize(other.getPageSize());
+        }
+        if (!other.getPageToken().isEmpty()) {
+          pageToken_ = other.pageToken_;
+          onChanged();
+        }
+        if (!other.getOrderBy().isEmpty()) {
+          orderBy_ = other.orderBy_;
+          onChanged();
+        }
+        if (other.getDescending() != false) {
+          setDescending(other.getDescending());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -10351,45 +11171,257 @@ public final class Bank {
         }
         return this;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      private int pageSize_ ;
+      /**
+       * <code>int32 pageSize = 1;</code>
+       * @return The pageSize.
+       */
+      public int getPageSize() {
+        return pageSize_;
       }
-
-
-      // @@protoc_insertion_point(builder_scope:BankAccountsRequest)
-    }
-
-    // @@protoc_insertion_point(class_scope:BankAccountsRequest)
-    private static final ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest();
-    }
-
-    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<BankAccountsRequest>
-        PARSER = new com.google.protobuf.AbstractParser<BankAccountsRequest>() {
-      @java.lang.Override
-      public BankAccountsRequest parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new BankAccountsRequest(input, extensionRegistry);
+      /**
+       * <code>int32 pageSize = 1;</code>
+       * @param value The pageSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageSize(int value) {
+        
+        pageSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 pageSize = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageSize() {
+        
+        pageSize_ = 0;
+        onChanged();
+        return this;
       }
-    };
 
-    public static com.google.protobuf.Parser<BankAccountsRequest> parser() {
-      return PARSER;
+      private java.lang.Object pageToken_ = "";
+      /**
+       * <code>string pageToken = 2;</code>
+       * @return The pageToken.
+       */
+      public java.lang.String getPageToken() {
+        java.lang.Object ref = pageToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          pageToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string pageToken = 2;</code>
+       * @return The bytes for pageToken.
+       */
+      public com.google.protobuf.ByteString
+          getPageTokenBytes() {
+        java.lang.Object ref = pageToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          pageToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string pageToken = 2;</code>
+       * @param value The pageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        pageToken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string pageToken = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageToken() {
+        
+        pageToken_ = getDefaultInstance().getPageToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string pageToken = 2;</code>
+       * @param value The bytes for pageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        pageToken_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object orderBy_ = "";
+      /**
+       * <code>string orderBy = 3;</code>
+       * @return The orderBy.
+       */
+      public java.lang.String getOrderBy() {
+        java.lang.Object ref = orderBy_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          orderBy_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string orderBy = 3;</code>
+       * @return The bytes for orderBy.
+       */
+      public com.google.protobuf.ByteString
+          getOrderByBytes() {
+        java.lang.Object ref = orderBy_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          orderBy_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string orderBy = 3;</code>
+       * @param value The orderBy to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrderBy(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        orderBy_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string orderBy = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrderBy() {
+        
+        orderBy_ = getDefaultInstance().getOrderBy();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string orderBy = 3;</code>
+       * @param value The bytes for orderBy to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrderByBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        orderBy_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean descending_ ;
+      /**
+       * <code>bool descending = 4;</code>
+       * @return The descending.
+       */
+      public boolean getDescending() {
+        return descending_;
+      }
+      /**
+       * <code>bool descending = 4;</code>
+       * @param value The descending to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescending(boolean value) {
+        
+        descending_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool descending = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDescending() {
+        
+        descending_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BankAccountsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:BankAccountsRequest)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BankAccountsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BankAccountsRequest>() {
+      @java.lang.Override
+      public BankAccountsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BankAccountsRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BankAccountsRequest> parser() {
+      return PARSER;
     }
 
     @java.lang.Override
@@ -10431,6 +11463,18 @@ public final class Bank {
      */
     ma.formations.multiconnector.grpc.stub.Bank.BankAccountDtoOrBuilder getBankAccountOrBuilder(
         int index);
+
+    /**
+     * <code>string nextPageToken = 2;</code>
+     * @return The nextPageToken.
+     */
+    java.lang.String getNextPageToken();
+    /**
+     * <code>string nextPageToken = 2;</code>
+     * @return The bytes for nextPageToken.
+     */
+    com.google.protobuf.ByteString
+        getNextPageTokenBytes();
   }
   /**
    * Protobuf type {@code BankAccountsResponse}
@@ -10446,6 +11490,7 @@ public final class Bank {
     }
     private BankAccountsResponse() {
       bankAccount_ = java.util.Collections.emptyList();
+      nextPageToken_ = "";
     }
 
     @java.lang.Override
@@ -10488,6 +11533,12 @@ public final class Bank {
                   input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.parser(), extensionRegistry));
               break;
             }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              nextPageToken_ = s;
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -10558,6 +11609,42 @@ public final class Bank {
       return bankAccount_.get(index);
     }
 
+    public static final int NEXTPAGETOKEN_FIELD_NUMBER = 2;
+    private volatile java.lang.Object nextPageToken_;
+    /**
+     * <code>string nextPageToken = 2;</code>
+     * @return The nextPageToken.
+     */
+    public java.lang.String getNextPageToken() {
+      java.lang.Object ref = nextPageToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextPageToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string nextPageToken = 2;</code>
+     * @return The bytes for nextPageToken.
+     */
+    public com.google.protobuf.ByteString
+        getNextPageTokenBytes() {
+      java.lang.Object ref = nextPageToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextPageToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -10575,6 +11662,9 @@ public final class Bank {
       for (int i = 0; i < bankAccount_.size(); i++) {
         output.writeMessage(1, bankAccount_.get(i));
       }
+      if (!getNextPageTokenBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, nextPageToken_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -10588,6 +11678,9 @@ public final class Bank {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, bankAccount_.get(i));
       }
+      if (!getNextPageTokenBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, nextPageToken_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -10605,6 +11698,8 @@ public final class Bank {
 
       if (!getBankAccountList()
           .equals(other.getBankAccountList())) return false;
+      if (!getNextPageToken()
+          .equals(other.getNextPageToken())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -10620,6 +11715,8 @@ public final class Bank {
         hash = (37 * hash) + BANKACCOUNT_FIELD_NUMBER;
         hash = (53 * hash) + getBankAccountList().hashCode();
       }
+      hash = (37 * hash) + NEXTPAGETOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getNextPageToken().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -10760,6 +11857,8 @@ public final class Bank {
         } else {
           bankAccountBuilder_.clear();
         }
+        nextPageToken_ = "";
+
         return this;
       }
 
@@ -10796,6 +11895,7 @@ public final class Bank {
         } else {
           result.bankAccount_ = bankAccountBuilder_.build();
         }
+        result.nextPageToken_ = nextPageToken_;
         onBuilt();
         return result;
       }
@@ -10870,6 +11970,10 @@ public final class Bank {
             }
           }
         }
+        if (!other.getNextPageToken().isEmpty()) {
+          nextPageToken_ = other.nextPageToken_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -11139,50 +12243,126 @@ public final class Bank {
         }
         return bankAccountBuilder_;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
-
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
-      }
-
-
-      // @@protoc_insertion_point(builder_scope:BankAccountsResponse)
-    }
-
-    // @@protoc_insertion_point(class_scope:BankAccountsResponse)
-    private static final ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse();
-    }
-
-    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
 
-    private static final com.google.protobuf.Parser<BankAccountsResponse>
-        PARSER = new com.google.protobuf.AbstractParser<BankAccountsResponse>() {
-      @java.lang.Override
-      public BankAccountsResponse parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new BankAccountsResponse(input, extensionRegistry);
+      private java.lang.Object nextPageToken_ = "";
+      /**
+       * <code>string nextPageToken = 2;</code>
+       * @return The nextPageToken.
+       */
+      public java.lang.String getNextPageToken() {
+        java.lang.Object ref = nextPageToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextPageToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
-    };
-
-    public static com.google.protobuf.Parser<BankAccountsResponse> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<BankAccountsResponse> getParserForType() {
-      return PARSER;
+      /**
+       * <code>string nextPageToken = 2;</code>
+       * @return The bytes for nextPageToken.
+       */
+      public com.google.protobuf.ByteString
+          getNextPageTokenBytes() {
+        java.lang.Object ref = nextPageToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextPageToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string nextPageToken = 2;</code>
+       * @param value The nextPageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextPageToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        nextPageToken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string nextPageToken = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNextPageToken() {
+        
+        nextPageToken_ = getDefaultInstance().getNextPageToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string nextPageToken = 2;</code>
+       * @param value The bytes for nextPageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextPageTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        nextPageToken_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:BankAccountsResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:BankAccountsResponse)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BankAccountsResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BankAccountsResponse>() {
+      @java.lang.Override
+      public BankAccountsResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BankAccountsResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BankAccountsResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BankAccountsResponse> getParserForType() {
+      return PARSER;
     }
 
     @java.lang.Override
@@ -15824,69 +17004,55 @@ public final class Bank {
 
   }
 
-  public interface GetTransactionsRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:GetTransactionsRequest)
+  public interface AddWirerTransfersRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AddWirerTransfersRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string rib = 1;</code>
-     * @return The rib.
-     */
-    java.lang.String getRib();
-    /**
-     * <code>string rib = 1;</code>
-     * @return The bytes for rib.
+     * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getRibBytes();
-
+    java.util.List<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest> 
+        getTransfersList();
     /**
-     * <code>string dateTo = 2;</code>
-     * @return The dateTo.
+     * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
      */
-    java.lang.String getDateTo();
+    ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest getTransfers(int index);
     /**
-     * <code>string dateTo = 2;</code>
-     * @return The bytes for dateTo.
+     * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getDateToBytes();
-
+    int getTransfersCount();
     /**
-     * <code>string dateFrom = 3;</code>
-     * @return The dateFrom.
+     * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
      */
-    java.lang.String getDateFrom();
+    java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequestOrBuilder> 
+        getTransfersOrBuilderList();
     /**
-     * <code>string dateFrom = 3;</code>
-     * @return The bytes for dateFrom.
+     * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getDateFromBytes();
+    ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequestOrBuilder getTransfersOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code GetTransactionsRequest}
+   * Protobuf type {@code AddWirerTransfersRequest}
    */
-  public  static final class GetTransactionsRequest extends
+  public  static final class AddWirerTransfersRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:GetTransactionsRequest)
-      GetTransactionsRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:AddWirerTransfersRequest)
+      AddWirerTransfersRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetTransactionsRequest.newBuilder() to construct.
-    private GetTransactionsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use AddWirerTransfersRequest.newBuilder() to construct.
+    private AddWirerTransfersRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetTransactionsRequest() {
-      rib_ = "";
-      dateTo_ = "";
-      dateFrom_ = "";
+    private AddWirerTransfersRequest() {
+      transfers_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetTransactionsRequest();
+      return new AddWirerTransfersRequest();
     }
 
     @java.lang.Override
@@ -15894,7 +17060,7 @@ public final class Bank {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetTransactionsRequest(
+    private AddWirerTransfersRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -15902,6 +17068,7 @@ public final class Bank {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -15913,21 +17080,12 @@ public final class Bank {
               done = true;
               break;
             case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              rib_ = s;
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              dateTo_ = s;
-              break;
-            }
-            case 26: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              dateFrom_ = s;
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                transfers_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              transfers_.add(
+                  input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.parser(), extensionRegistry));
               break;
             }
             default: {
@@ -15945,129 +17103,59 @@ public final class Bank {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          transfers_ = java.util.Collections.unmodifiableList(transfers_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsRequest_descriptor;
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_AddWirerTransfersRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsRequest_fieldAccessorTable
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_AddWirerTransfersRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.class, ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.Builder.class);
+              ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest.class, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest.Builder.class);
     }
 
-    public static final int RIB_FIELD_NUMBER = 1;
-    private volatile java.lang.Object rib_;
-    /**
-     * <code>string rib = 1;</code>
-     * @return The rib.
-     */
-    public java.lang.String getRib() {
-      java.lang.Object ref = rib_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        rib_ = s;
-        return s;
-      }
-    }
+    public static final int TRANSFERS_FIELD_NUMBER = 1;
+    private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest> transfers_;
     /**
-     * <code>string rib = 1;</code>
-     * @return The bytes for rib.
+     * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getRibBytes() {
-      java.lang.Object ref = rib_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        rib_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest> getTransfersList() {
+      return transfers_;
     }
-
-    public static final int DATETO_FIELD_NUMBER = 2;
-    private volatile java.lang.Object dateTo_;
     /**
-     * <code>string dateTo = 2;</code>
-     * @return The dateTo.
+     * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
      */
-    public java.lang.String getDateTo() {
-      java.lang.Object ref = dateTo_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        dateTo_ = s;
-        return s;
-      }
+    public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequestOrBuilder> 
+        getTransfersOrBuilderList() {
+      return transfers_;
     }
     /**
-     * <code>string dateTo = 2;</code>
-     * @return The bytes for dateTo.
+     * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getDateToBytes() {
-      java.lang.Object ref = dateTo_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        dateTo_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getTransfersCount() {
+      return transfers_.size();
     }
-
-    public static final int DATEFROM_FIELD_NUMBER = 3;
-    private volatile java.lang.Object dateFrom_;
     /**
-     * <code>string dateFrom = 3;</code>
-     * @return The dateFrom.
+     * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
      */
-    public java.lang.String getDateFrom() {
-      java.lang.Object ref = dateFrom_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        dateFrom_ = s;
-        return s;
-      }
+    public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest getTransfers(int index) {
+      return transfers_.get(index);
     }
     /**
-     * <code>string dateFrom = 3;</code>
-     * @return The bytes for dateFrom.
+     * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getDateFromBytes() {
-      java.lang.Object ref = dateFrom_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        dateFrom_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequestOrBuilder getTransfersOrBuilder(
+        int index) {
+      return transfers_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -16084,14 +17172,4971 @@ public final class Bank {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getRibBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, rib_);
-      }
-      if (!getDateToBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, dateTo_);
+      for (int i = 0; i < transfers_.size(); i++) {
+        output.writeMessage(1, transfers_.get(i));
       }
-      if (!getDateFromBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, dateFrom_);
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < transfers_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, transfers_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest other = (ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest) obj;
+
+      if (!getTransfersList()
+          .equals(other.getTransfersList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getTransfersCount() > 0) {
+        hash = (37 * hash) + TRANSFERS_FIELD_NUMBER;
+        hash = (53 * hash) + getTransfersList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code AddWirerTransfersRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:AddWirerTransfersRequest)
+        ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_AddWirerTransfersRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_AddWirerTransfersRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest.class, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTransfersFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (transfersBuilder_ == null) {
+          transfers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          transfersBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_AddWirerTransfersRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest build() {
+        ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest result = new ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (transfersBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            transfers_ = java.util.Collections.unmodifiableList(transfers_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.transfers_ = transfers_;
+        } else {
+          result.transfers_ = transfersBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest.getDefaultInstance()) return this;
+        if (transfersBuilder_ == null) {
+          if (!other.transfers_.isEmpty()) {
+            if (transfers_.isEmpty()) {
+              transfers_ = other.transfers_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureTransfersIsMutable();
+              transfers_.addAll(other.transfers_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.transfers_.isEmpty()) {
+            if (transfersBuilder_.isEmpty()) {
+              transfersBuilder_.dispose();
+              transfersBuilder_ = null;
+              transfers_ = other.transfers_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              transfersBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTransfersFieldBuilder() : null;
+            } else {
+              transfersBuilder_.addAllMessages(other.transfers_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest> transfers_ =
+        java.util.Collections.emptyList();
+      private void ensureTransfersIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          transfers_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest>(transfers_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.Builder, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequestOrBuilder> transfersBuilder_;
+
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest> getTransfersList() {
+        if (transfersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(transfers_);
+        } else {
+          return transfersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public int getTransfersCount() {
+        if (transfersBuilder_ == null) {
+          return transfers_.size();
+        } else {
+          return transfersBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest getTransfers(int index) {
+        if (transfersBuilder_ == null) {
+          return transfers_.get(index);
+        } else {
+          return transfersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public Builder setTransfers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest value) {
+        if (transfersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransfersIsMutable();
+          transfers_.set(index, value);
+          onChanged();
+        } else {
+          transfersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public Builder setTransfers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.Builder builderForValue) {
+        if (transfersBuilder_ == null) {
+          ensureTransfersIsMutable();
+          transfers_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          transfersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public Builder addTransfers(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest value) {
+        if (transfersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransfersIsMutable();
+          transfers_.add(value);
+          onChanged();
+        } else {
+          transfersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public Builder addTransfers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest value) {
+        if (transfersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransfersIsMutable();
+          transfers_.add(index, value);
+          onChanged();
+        } else {
+          transfersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public Builder addTransfers(
+          ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.Builder builderForValue) {
+        if (transfersBuilder_ == null) {
+          ensureTransfersIsMutable();
+          transfers_.add(builderForValue.build());
+          onChanged();
+        } else {
+          transfersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public Builder addTransfers(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.Builder builderForValue) {
+        if (transfersBuilder_ == null) {
+          ensureTransfersIsMutable();
+          transfers_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          transfersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public Builder addAllTransfers(
+          java.lang.Iterable<? extends ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest> values) {
+        if (transfersBuilder_ == null) {
+          ensureTransfersIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, transfers_);
+          onChanged();
+        } else {
+          transfersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public Builder clearTransfers() {
+        if (transfersBuilder_ == null) {
+          transfers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          transfersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public Builder removeTransfers(int index) {
+        if (transfersBuilder_ == null) {
+          ensureTransfersIsMutable();
+          transfers_.remove(index);
+          onChanged();
+        } else {
+          transfersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.Builder getTransfersBuilder(
+          int index) {
+        return getTransfersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequestOrBuilder getTransfersOrBuilder(
+          int index) {
+        if (transfersBuilder_ == null) {
+          return transfers_.get(index);  } else {
+          return transfersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequestOrBuilder> 
+           getTransfersOrBuilderList() {
+        if (transfersBuilder_ != null) {
+          return transfersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(transfers_);
+        }
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.Builder addTransfersBuilder() {
+        return getTransfersFieldBuilder().addBuilder(
+            ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.Builder addTransfersBuilder(
+          int index) {
+        return getTransfersFieldBuilder().addBuilder(
+            index, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .AddWirerTransferRequest transfers = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.Builder> 
+           getTransfersBuilderList() {
+        return getTransfersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.Builder, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequestOrBuilder> 
+          getTransfersFieldBuilder() {
+        if (transfersBuilder_ == null) {
+          transfersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.Builder, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequestOrBuilder>(
+                  transfers_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          transfers_ = null;
+        }
+        return transfersBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:AddWirerTransfersRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:AddWirerTransfersRequest)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<AddWirerTransfersRequest>
+        PARSER = new com.google.protobuf.AbstractParser<AddWirerTransfersRequest>() {
+      @java.lang.Override
+      public AddWirerTransfersRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AddWirerTransfersRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<AddWirerTransfersRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AddWirerTransfersRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WirerTransferResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:WirerTransferResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 index = 1;</code>
+     * @return The index.
+     */
+    int getIndex();
+
+    /**
+     * <code>bool success = 2;</code>
+     * @return The success.
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>string message = 3;</code>
+     * @return The message.
+     */
+    java.lang.String getMessage();
+    /**
+     * <code>string message = 3;</code>
+     * @return The bytes for message.
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
+  }
+  /**
+   * Protobuf type {@code WirerTransferResult}
+   */
+  public  static final class WirerTransferResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:WirerTransferResult)
+      WirerTransferResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WirerTransferResult.newBuilder() to construct.
+    private WirerTransferResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WirerTransferResult() {
+      message_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WirerTransferResult();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WirerTransferResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              index_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              success_ = input.readBool();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              message_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_WirerTransferResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_WirerTransferResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.class, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder.class);
+    }
+
+    public static final int INDEX_FIELD_NUMBER = 1;
+    private int index_;
+    /**
+     * <code>int32 index = 1;</code>
+     * @return The index.
+     */
+    public int getIndex() {
+      return index_;
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 2;
+    private boolean success_;
+    /**
+     * <code>bool success = 2;</code>
+     * @return The success.
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 3;
+    private volatile java.lang.Object message_;
+    /**
+     * <code>string message = 3;</code>
+     * @return The message.
+     */
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        message_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string message = 3;</code>
+     * @return The bytes for message.
+     */
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (index_ != 0) {
+        output.writeInt32(1, index_);
+      }
+      if (success_ != false) {
+        output.writeBool(2, success_);
+      }
+      if (!getMessageBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, message_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (index_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, index_);
+      }
+      if (success_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, success_);
+      }
+      if (!getMessageBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, message_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult other = (ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult) obj;
+
+      if (getIndex()
+          != other.getIndex()) return false;
+      if (getSuccess()
+          != other.getSuccess()) return false;
+      if (!getMessage()
+          .equals(other.getMessage())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getIndex();
+      hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSuccess());
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code WirerTransferResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:WirerTransferResult)
+        ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_WirerTransferResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_WirerTransferResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.class, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        index_ = 0;
+
+        success_ = false;
+
+        message_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_WirerTransferResult_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult build() {
+        ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult result = new ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult(this);
+        result.index_ = index_;
+        result.success_ = success_;
+        result.message_ = message_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.getDefaultInstance()) return this;
+        if (other.getIndex() != 0) {
+          setIndex(other.getIndex());
+        }
+        if (other.getSuccess() != false) {
+          setSuccess(other.getSuccess());
+        }
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int index_ ;
+      /**
+       * <code>int32 index = 1;</code>
+       * @return The index.
+       */
+      public int getIndex() {
+        return index_;
+      }
+      /**
+       * <code>int32 index = 1;</code>
+       * @param value The index to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIndex(int value) {
+        
+        index_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 index = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIndex() {
+        
+        index_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean success_ ;
+      /**
+       * <code>bool success = 2;</code>
+       * @return The success.
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>bool success = 2;</code>
+       * @param value The success to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSuccess(boolean value) {
+        
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool success = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSuccess() {
+        
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <code>string message = 3;</code>
+       * @return The message.
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          message_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @return The bytes for message.
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @param value The message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMessage() {
+        
+        message_ = getDefaultInstance().getMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @param value The bytes for message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:WirerTransferResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:WirerTransferResult)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WirerTransferResult>
+        PARSER = new com.google.protobuf.AbstractParser<WirerTransferResult>() {
+      @java.lang.Override
+      public WirerTransferResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WirerTransferResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WirerTransferResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WirerTransferResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AddWirerTransfersResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AddWirerTransfersResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 succeeded = 1;</code>
+     * @return The succeeded.
+     */
+    int getSucceeded();
+
+    /**
+     * <code>int32 failed = 2;</code>
+     * @return The failed.
+     */
+    int getFailed();
+
+    /**
+     * <code>repeated .WirerTransferResult results = 3;</code>
+     */
+    java.util.List<ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult> 
+        getResultsList();
+    /**
+     * <code>repeated .WirerTransferResult results = 3;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult getResults(int index);
+    /**
+     * <code>repeated .WirerTransferResult results = 3;</code>
+     */
+    int getResultsCount();
+    /**
+     * <code>repeated .WirerTransferResult results = 3;</code>
+     */
+    java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResultOrBuilder> 
+        getResultsOrBuilderList();
+    /**
+     * <code>repeated .WirerTransferResult results = 3;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResultOrBuilder getResultsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code AddWirerTransfersResponse}
+   */
+  public  static final class AddWirerTransfersResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:AddWirerTransfersResponse)
+      AddWirerTransfersResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AddWirerTransfersResponse.newBuilder() to construct.
+    private AddWirerTransfersResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AddWirerTransfersResponse() {
+      results_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new AddWirerTransfersResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AddWirerTransfersResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              succeeded_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              failed_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                results_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              results_.add(
+                  input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          results_ = java.util.Collections.unmodifiableList(results_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_AddWirerTransfersResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_AddWirerTransfersResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse.class, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse.Builder.class);
+    }
+
+    public static final int SUCCEEDED_FIELD_NUMBER = 1;
+    private int succeeded_;
+    /**
+     * <code>int32 succeeded = 1;</code>
+     * @return The succeeded.
+     */
+    public int getSucceeded() {
+      return succeeded_;
+    }
+
+    public static final int FAILED_FIELD_NUMBER = 2;
+    private int failed_;
+    /**
+     * <code>int32 failed = 2;</code>
+     * @return The failed.
+     */
+    public int getFailed() {
+      return failed_;
+    }
+
+    public static final int RESULTS_FIELD_NUMBER = 3;
+    private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult> results_;
+    /**
+     * <code>repeated .WirerTransferResult results = 3;</code>
+     */
+    public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult> getResultsList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .WirerTransferResult results = 3;</code>
+     */
+    public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResultOrBuilder> 
+        getResultsOrBuilderList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .WirerTransferResult results = 3;</code>
+     */
+    public int getResultsCount() {
+      return results_.size();
+    }
+    /**
+     * <code>repeated .WirerTransferResult results = 3;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult getResults(int index) {
+      return results_.get(index);
+    }
+    /**
+     * <code>repeated .WirerTransferResult results = 3;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResultOrBuilder getResultsOrBuilder(
+        int index) {
+      return results_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (succeeded_ != 0) {
+        output.writeInt32(1, succeeded_);
+      }
+      if (failed_ != 0) {
+        output.writeInt32(2, failed_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeMessage(3, results_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (succeeded_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, succeeded_);
+      }
+      if (failed_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, failed_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, results_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse other = (ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse) obj;
+
+      if (getSucceeded()
+          != other.getSucceeded()) return false;
+      if (getFailed()
+          != other.getFailed()) return false;
+      if (!getResultsList()
+          .equals(other.getResultsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SUCCEEDED_FIELD_NUMBER;
+      hash = (53 * hash) + getSucceeded();
+      hash = (37 * hash) + FAILED_FIELD_NUMBER;
+      hash = (53 * hash) + getFailed();
+      if (getResultsCount() > 0) {
+        hash = (37 * hash) + RESULTS_FIELD_NUMBER;
+        hash = (53 * hash) + getResultsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code AddWirerTransfersResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:AddWirerTransfersResponse)
+        ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_AddWirerTransfersResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_AddWirerTransfersResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse.class, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getResultsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        succeeded_ = 0;
+
+        failed_ = 0;
+
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_AddWirerTransfersResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse build() {
+        ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse result = new ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse(this);
+        int from_bitField0_ = bitField0_;
+        result.succeeded_ = succeeded_;
+        result.failed_ = failed_;
+        if (resultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            results_ = java.util.Collections.unmodifiableList(results_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.results_ = results_;
+        } else {
+          result.results_ = resultsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse.getDefaultInstance()) return this;
+        if (other.getSucceeded() != 0) {
+          setSucceeded(other.getSucceeded());
+        }
+        if (other.getFailed() != 0) {
+          setFailed(other.getFailed());
+        }
+        if (resultsBuilder_ == null) {
+          if (!other.results_.isEmpty()) {
+            if (results_.isEmpty()) {
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureResultsIsMutable();
+              results_.addAll(other.results_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.results_.isEmpty()) {
+            if (resultsBuilder_.isEmpty()) {
+              resultsBuilder_.dispose();
+              resultsBuilder_ = null;
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              resultsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResultsFieldBuilder() : null;
+            } else {
+              resultsBuilder_.addAllMessages(other.results_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int succeeded_ ;
+      /**
+       * <code>int32 succeeded = 1;</code>
+       * @return The succeeded.
+       */
+      public int getSucceeded() {
+        return succeeded_;
+      }
+      /**
+       * <code>int32 succeeded = 1;</code>
+       * @param value The succeeded to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSucceeded(int value) {
+        
+        succeeded_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 succeeded = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSucceeded() {
+        
+        succeeded_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int failed_ ;
+      /**
+       * <code>int32 failed = 2;</code>
+       * @return The failed.
+       */
+      public int getFailed() {
+        return failed_;
+      }
+      /**
+       * <code>int32 failed = 2;</code>
+       * @param value The failed to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFailed(int value) {
+        
+        failed_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 failed = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFailed() {
+        
+        failed_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult> results_ =
+        java.util.Collections.emptyList();
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          results_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult>(results_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResultOrBuilder> resultsBuilder_;
+
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult> getResultsList() {
+        if (resultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(results_);
+        } else {
+          return resultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public int getResultsCount() {
+        if (resultsBuilder_ == null) {
+          return results_.size();
+        } else {
+          return resultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult getResults(int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);
+        } else {
+          return resultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public Builder setResults(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.set(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public Builder setResults(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public Builder addResults(ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public Builder addResults(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public Builder addResults(
+          ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public Builder addResults(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public Builder addAllResults(
+          java.lang.Iterable<? extends ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult> values) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, results_);
+          onChanged();
+        } else {
+          resultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public Builder removeResults(int index) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.remove(index);
+          onChanged();
+        } else {
+          resultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder getResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResultOrBuilder getResultsOrBuilder(
+          int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);  } else {
+          return resultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResultOrBuilder> 
+           getResultsOrBuilderList() {
+        if (resultsBuilder_ != null) {
+          return resultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(results_);
+        }
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder addResultsBuilder() {
+        return getResultsFieldBuilder().addBuilder(
+            ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder addResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().addBuilder(
+            index, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .WirerTransferResult results = 3;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder> 
+           getResultsBuilderList() {
+        return getResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResultOrBuilder> 
+          getResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResult.Builder, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferResultOrBuilder>(
+                  results_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          results_ = null;
+        }
+        return resultsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:AddWirerTransfersResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:AddWirerTransfersResponse)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<AddWirerTransfersResponse>
+        PARSER = new com.google.protobuf.AbstractParser<AddWirerTransfersResponse>() {
+      @java.lang.Override
+      public AddWirerTransfersResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AddWirerTransfersResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<AddWirerTransfersResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AddWirerTransfersResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WirerTransferAckOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:WirerTransferAck)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 sequence = 1;</code>
+     * @return The sequence.
+     */
+    long getSequence();
+
+    /**
+     * <code>bool success = 2;</code>
+     * @return The success.
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>string message = 3;</code>
+     * @return The message.
+     */
+    java.lang.String getMessage();
+    /**
+     * <code>string message = 3;</code>
+     * @return The bytes for message.
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
+  }
+  /**
+   * <pre>
+   * Acquittement d'un virement reçu par streamWirerTransfers :
+   * sequence est la position du virement dans le flux d'entrée, à partir de 0.
+   * </pre>
+   *
+   * Protobuf type {@code WirerTransferAck}
+   */
+  public  static final class WirerTransferAck extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:WirerTransferAck)
+      WirerTransferAckOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WirerTransferAck.newBuilder() to construct.
+    private WirerTransferAck(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WirerTransferAck() {
+      message_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new WirerTransferAck();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WirerTransferAck(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              sequence_ = input.readInt64();
+              break;
+            }
+            case 16: {
+
+              success_ = input.readBool();
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              message_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_WirerTransferAck_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_WirerTransferAck_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck.class, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck.Builder.class);
+    }
+
+    public static final int SEQUENCE_FIELD_NUMBER = 1;
+    private long sequence_;
+    /**
+     * <code>int64 sequence = 1;</code>
+     * @return The sequence.
+     */
+    public long getSequence() {
+      return sequence_;
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 2;
+    private boolean success_;
+    /**
+     * <code>bool success = 2;</code>
+     * @return The success.
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 3;
+    private volatile java.lang.Object message_;
+    /**
+     * <code>string message = 3;</code>
+     * @return The message.
+     */
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        message_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string message = 3;</code>
+     * @return The bytes for message.
+     */
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (sequence_ != 0L) {
+        output.writeInt64(1, sequence_);
+      }
+      if (success_ != false) {
+        output.writeBool(2, success_);
+      }
+      if (!getMessageBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, message_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (sequence_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, sequence_);
+      }
+      if (success_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, success_);
+      }
+      if (!getMessageBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, message_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck other = (ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck) obj;
+
+      if (getSequence()
+          != other.getSequence()) return false;
+      if (getSuccess()
+          != other.getSuccess()) return false;
+      if (!getMessage()
+          .equals(other.getMessage())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSequence());
+      hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSuccess());
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Acquittement d'un virement reçu par streamWirerTransfers :
+     * sequence est la position du virement dans le flux d'entrée, à partir de 0.
+     * </pre>
+     *
+     * Protobuf type {@code WirerTransferAck}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:WirerTransferAck)
+        ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAckOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_WirerTransferAck_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_WirerTransferAck_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck.class, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        sequence_ = 0L;
+
+        success_ = false;
+
+        message_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_WirerTransferAck_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck build() {
+        ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck result = new ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck(this);
+        result.sequence_ = sequence_;
+        result.success_ = success_;
+        result.message_ = message_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck.getDefaultInstance()) return this;
+        if (other.getSequence() != 0L) {
+          setSequence(other.getSequence());
+        }
+        if (other.getSuccess() != false) {
+          setSuccess(other.getSuccess());
+        }
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long sequence_ ;
+      /**
+       * <code>int64 sequence = 1;</code>
+       * @return The sequence.
+       */
+      public long getSequence() {
+        return sequence_;
+      }
+      /**
+       * <code>int64 sequence = 1;</code>
+       * @param value The sequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSequence(long value) {
+        
+        sequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 sequence = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSequence() {
+        
+        sequence_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean success_ ;
+      /**
+       * <code>bool success = 2;</code>
+       * @return The success.
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>bool success = 2;</code>
+       * @param value The success to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSuccess(boolean value) {
+        
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool success = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSuccess() {
+        
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <code>string message = 3;</code>
+       * @return The message.
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          message_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @return The bytes for message.
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @param value The message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMessage() {
+        
+        message_ = getDefaultInstance().getMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string message = 3;</code>
+       * @param value The bytes for message to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:WirerTransferAck)
+    }
+
+    // @@protoc_insertion_point(class_scope:WirerTransferAck)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WirerTransferAck>
+        PARSER = new com.google.protobuf.AbstractParser<WirerTransferAck>() {
+      @java.lang.Override
+      public WirerTransferAck parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WirerTransferAck(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WirerTransferAck> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WirerTransferAck> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetTransactionsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetTransactionsRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string rib = 1;</code>
+     * @return The rib.
+     */
+    java.lang.String getRib();
+    /**
+     * <code>string rib = 1;</code>
+     * @return The bytes for rib.
+     */
+    com.google.protobuf.ByteString
+        getRibBytes();
+
+    /**
+     * <code>string dateTo = 2;</code>
+     * @return The dateTo.
+     */
+    java.lang.String getDateTo();
+    /**
+     * <code>string dateTo = 2;</code>
+     * @return The bytes for dateTo.
+     */
+    com.google.protobuf.ByteString
+        getDateToBytes();
+
+    /**
+     * <code>string dateFrom = 3;</code>
+     * @return The dateFrom.
+     */
+    java.lang.String getDateFrom();
+    /**
+     * <code>string dateFrom = 3;</code>
+     * @return The bytes for dateFrom.
+     */
+    com.google.protobuf.ByteString
+        getDateFromBytes();
+  }
+  /**
+   * Protobuf type {@code GetTransactionsRequest}
+   */
+  public  static final class GetTransactionsRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetTransactionsRequest)
+      GetTransactionsRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetTransactionsRequest.newBuilder() to construct.
+    private GetTransactionsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetTransactionsRequest() {
+      rib_ = "";
+      dateTo_ = "";
+      dateFrom_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetTransactionsRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetTransactionsRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              rib_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              dateTo_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              dateFrom_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.class, ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.Builder.class);
+    }
+
+    public static final int RIB_FIELD_NUMBER = 1;
+    private volatile java.lang.Object rib_;
+    /**
+     * <code>string rib = 1;</code>
+     * @return The rib.
+     */
+    public java.lang.String getRib() {
+      java.lang.Object ref = rib_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        rib_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string rib = 1;</code>
+     * @return The bytes for rib.
+     */
+    public com.google.protobuf.ByteString
+        getRibBytes() {
+      java.lang.Object ref = rib_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        rib_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATETO_FIELD_NUMBER = 2;
+    private volatile java.lang.Object dateTo_;
+    /**
+     * <code>string dateTo = 2;</code>
+     * @return The dateTo.
+     */
+    public java.lang.String getDateTo() {
+      java.lang.Object ref = dateTo_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dateTo_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dateTo = 2;</code>
+     * @return The bytes for dateTo.
+     */
+    public com.google.protobuf.ByteString
+        getDateToBytes() {
+      java.lang.Object ref = dateTo_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dateTo_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATEFROM_FIELD_NUMBER = 3;
+    private volatile java.lang.Object dateFrom_;
+    /**
+     * <code>string dateFrom = 3;</code>
+     * @return The dateFrom.
+     */
+    public java.lang.String getDateFrom() {
+      java.lang.Object ref = dateFrom_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dateFrom_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dateFrom = 3;</code>
+     * @return The bytes for dateFrom.
+     */
+    public com.google.protobuf.ByteString
+        getDateFromBytes() {
+      java.lang.Object ref = dateFrom_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dateFrom_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getRibBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, rib_);
+      }
+      if (!getDateToBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, dateTo_);
+      }
+      if (!getDateFromBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, dateFrom_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getRibBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, rib_);
+      }
+      if (!getDateToBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, dateTo_);
+      }
+      if (!getDateFromBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, dateFrom_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest other = (ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest) obj;
+
+      if (!getRib()
+          .equals(other.getRib())) return false;
+      if (!getDateTo()
+          .equals(other.getDateTo())) return false;
+      if (!getDateFrom()
+          .equals(other.getDateFrom())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RIB_FIELD_NUMBER;
+      hash = (53 * hash) + getRib().hashCode();
+      hash = (37 * hash) + DATETO_FIELD_NUMBER;
+      hash = (53 * hash) + getDateTo().hashCode();
+      hash = (37 * hash) + DATEFROM_FIELD_NUMBER;
+      hash = (53 * hash) + getDateFrom().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetTransactionsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetTransactionsRequest)
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.class, ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        rib_ = "";
+
+        dateTo_ = "";
+
+        dateFrom_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest build() {
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest result = new ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest(this);
+        result.rib_ = rib_;
+        result.dateTo_ = dateTo_;
+        result.dateFrom_ = dateFrom_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.getDefaultInstance()) return this;
+        if (!other.getRib().isEmpty()) {
+          rib_ = other.rib_;
+          onChanged();
+        }
+        if (!other.getDateTo().isEmpty()) {
+          dateTo_ = other.dateTo_;
+          onChanged();
+        }
+        if (!other.getDateFrom().isEmpty()) {
+          dateFrom_ = other.dateFrom_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object rib_ = "";
+      /**
+       * <code>string rib = 1;</code>
+       * @return The rib.
+       */
+      public java.lang.String getRib() {
+        java.lang.Object ref = rib_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          rib_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string rib = 1;</code>
+       * @return The bytes for rib.
+       */
+      public com.google.protobuf.ByteString
+          getRibBytes() {
+        java.lang.Object ref = rib_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          rib_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string rib = 1;</code>
+       * @param value The rib to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRib(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        rib_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string rib = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRib() {
+        
+        rib_ = getDefaultInstance().getRib();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string rib = 1;</code>
+       * @param value The bytes for rib to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRibBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        rib_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dateTo_ = "";
+      /**
+       * <code>string dateTo = 2;</code>
+       * @return The dateTo.
+       */
+      public java.lang.String getDateTo() {
+        java.lang.Object ref = dateTo_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dateTo_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dateTo = 2;</code>
+       * @return The bytes for dateTo.
+       */
+      public com.google.protobuf.ByteString
+          getDateToBytes() {
+        java.lang.Object ref = dateTo_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dateTo_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dateTo = 2;</code>
+       * @param value The dateTo to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDateTo(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        dateTo_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dateTo = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDateTo() {
+        
+        dateTo_ = getDefaultInstance().getDateTo();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dateTo = 2;</code>
+       * @param value The bytes for dateTo to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDateToBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        dateTo_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dateFrom_ = "";
+      /**
+       * <code>string dateFrom = 3;</code>
+       * @return The dateFrom.
+       */
+      public java.lang.String getDateFrom() {
+        java.lang.Object ref = dateFrom_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dateFrom_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dateFrom = 3;</code>
+       * @return The bytes for dateFrom.
+       */
+      public com.google.protobuf.ByteString
+          getDateFromBytes() {
+        java.lang.Object ref = dateFrom_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dateFrom_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dateFrom = 3;</code>
+       * @param value The dateFrom to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDateFrom(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        dateFrom_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dateFrom = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDateFrom() {
+        
+        dateFrom_ = getDefaultInstance().getDateFrom();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dateFrom = 3;</code>
+       * @param value The bytes for dateFrom to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDateFromBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        dateFrom_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetTransactionsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetTransactionsRequest)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetTransactionsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetTransactionsRequest>() {
+      @java.lang.Override
+      public GetTransactionsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetTransactionsRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetTransactionsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetTransactionsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetTransactionsResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetTransactionsResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> 
+        getTransactionList();
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransaction(int index);
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    int getTransactionCount();
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
+        getTransactionOrBuilderList();
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code GetTransactionsResponse}
+   */
+  public  static final class GetTransactionsResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetTransactionsResponse)
+      GetTransactionsResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetTransactionsResponse.newBuilder() to construct.
+    private GetTransactionsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetTransactionsResponse() {
+      transaction_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetTransactionsResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetTransactionsResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                transaction_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              transaction_.add(
+                  input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          transaction_ = java.util.Collections.unmodifiableList(transaction_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.class, ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.Builder.class);
+    }
+
+    public static final int TRANSACTION_FIELD_NUMBER = 1;
+    private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> transaction_;
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> getTransactionList() {
+      return transaction_;
+    }
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
+        getTransactionOrBuilderList() {
+      return transaction_;
+    }
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    public int getTransactionCount() {
+      return transaction_.size();
+    }
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransaction(int index) {
+      return transaction_.get(index);
+    }
+    /**
+     * <code>repeated .TransactionDto transaction = 1;</code>
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionOrBuilder(
+        int index) {
+      return transaction_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < transaction_.size(); i++) {
+        output.writeMessage(1, transaction_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < transaction_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, transaction_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse)) {
+        return super.equals(obj);
+      }
+      ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse other = (ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse) obj;
+
+      if (!getTransactionList()
+          .equals(other.getTransactionList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getTransactionCount() > 0) {
+        hash = (37 * hash) + TRANSACTION_FIELD_NUMBER;
+        hash = (53 * hash) + getTransactionList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetTransactionsResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetTransactionsResponse)
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.class, ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.Builder.class);
+      }
+
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTransactionFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (transactionBuilder_ == null) {
+          transaction_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          transactionBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse build() {
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse result = new ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (transactionBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            transaction_ = java.util.Collections.unmodifiableList(transaction_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.transaction_ = transaction_;
+        } else {
+          result.transaction_ = transactionBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.getDefaultInstance()) return this;
+        if (transactionBuilder_ == null) {
+          if (!other.transaction_.isEmpty()) {
+            if (transaction_.isEmpty()) {
+              transaction_ = other.transaction_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureTransactionIsMutable();
+              transaction_.addAll(other.transaction_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.transaction_.isEmpty()) {
+            if (transactionBuilder_.isEmpty()) {
+              transactionBuilder_.dispose();
+              transactionBuilder_ = null;
+              transaction_ = other.transaction_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              transactionBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTransactionFieldBuilder() : null;
+            } else {
+              transactionBuilder_.addAllMessages(other.transaction_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> transaction_ =
+        java.util.Collections.emptyList();
+      private void ensureTransactionIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          transaction_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto>(transaction_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> transactionBuilder_;
+
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> getTransactionList() {
+        if (transactionBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(transaction_);
+        } else {
+          return transactionBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public int getTransactionCount() {
+        if (transactionBuilder_ == null) {
+          return transaction_.size();
+        } else {
+          return transactionBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransaction(int index) {
+        if (transactionBuilder_ == null) {
+          return transaction_.get(index);
+        } else {
+          return transactionBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder setTransaction(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
+        if (transactionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionIsMutable();
+          transaction_.set(index, value);
+          onChanged();
+        } else {
+          transactionBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder setTransaction(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder builderForValue) {
+        if (transactionBuilder_ == null) {
+          ensureTransactionIsMutable();
+          transaction_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          transactionBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder addTransaction(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
+        if (transactionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionIsMutable();
+          transaction_.add(value);
+          onChanged();
+        } else {
+          transactionBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder addTransaction(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
+        if (transactionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionIsMutable();
+          transaction_.add(index, value);
+          onChanged();
+        } else {
+          transactionBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder addTransaction(
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder builderForValue) {
+        if (transactionBuilder_ == null) {
+          ensureTransactionIsMutable();
+          transaction_.add(builderForValue.build());
+          onChanged();
+        } else {
+          transactionBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder addTransaction(
+          int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder builderForValue) {
+        if (transactionBuilder_ == null) {
+          ensureTransactionIsMutable();
+          transaction_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          transactionBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder addAllTransaction(
+          java.lang.Iterable<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> values) {
+        if (transactionBuilder_ == null) {
+          ensureTransactionIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, transaction_);
+          onChanged();
+        } else {
+          transactionBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder clearTransaction() {
+        if (transactionBuilder_ == null) {
+          transaction_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          transactionBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public Builder removeTransaction(int index) {
+        if (transactionBuilder_ == null) {
+          ensureTransactionIsMutable();
+          transaction_.remove(index);
+          onChanged();
+        } else {
+          transactionBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder getTransactionBuilder(
+          int index) {
+        return getTransactionFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionOrBuilder(
+          int index) {
+        if (transactionBuilder_ == null) {
+          return transaction_.get(index);  } else {
+          return transactionBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
+           getTransactionOrBuilderList() {
+        if (transactionBuilder_ != null) {
+          return transactionBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(transaction_);
+        }
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder addTransactionBuilder() {
+        return getTransactionFieldBuilder().addBuilder(
+            ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder addTransactionBuilder(
+          int index) {
+        return getTransactionFieldBuilder().addBuilder(
+            index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TransactionDto transaction = 1;</code>
+       */
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder> 
+           getTransactionBuilderList() {
+        return getTransactionFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
+          getTransactionFieldBuilder() {
+        if (transactionBuilder_ == null) {
+          transactionBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder>(
+                  transaction_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          transaction_ = null;
+        }
+        return transactionBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetTransactionsResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetTransactionsResponse)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse();
+    }
+
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetTransactionsResponse>
+        PARSER = new com.google.protobuf.AbstractParser<GetTransactionsResponse>() {
+      @java.lang.Override
+      public GetTransactionsResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetTransactionsResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetTransactionsResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetTransactionsResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetTransactionPageRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetTransactionPageRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string rib = 1;</code>
+     * @return The rib.
+     */
+    java.lang.String getRib();
+    /**
+     * <code>string rib = 1;</code>
+     * @return The bytes for rib.
+     */
+    com.google.protobuf.ByteString
+        getRibBytes();
+
+    /**
+     * <code>string dateTo = 2;</code>
+     * @return The dateTo.
+     */
+    java.lang.String getDateTo();
+    /**
+     * <code>string dateTo = 2;</code>
+     * @return The bytes for dateTo.
+     */
+    com.google.protobuf.ByteString
+        getDateToBytes();
+
+    /**
+     * <code>string dateFrom = 3;</code>
+     * @return The dateFrom.
+     */
+    java.lang.String getDateFrom();
+    /**
+     * <code>string dateFrom = 3;</code>
+     * @return The bytes for dateFrom.
+     */
+    com.google.protobuf.ByteString
+        getDateFromBytes();
+
+    /**
+     * <code>string cursor = 4;</code>
+     * @return The cursor.
+     */
+    java.lang.String getCursor();
+    /**
+     * <code>string cursor = 4;</code>
+     * @return The bytes for cursor.
+     */
+    com.google.protobuf.ByteString
+        getCursorBytes();
+
+    /**
+     * <code>int32 size = 5;</code>
+     * @return The size.
+     */
+    int getSize();
+  }
+  /**
+   * <pre>
+   * Page d'historique par curseur : renvoyer nextCursor dans cursor pour la page suivante
+   * </pre>
+   *
+   * Protobuf type {@code GetTransactionPageRequest}
+   */
+  public  static final class GetTransactionPageRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetTransactionPageRequest)
+      GetTransactionPageRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetTransactionPageRequest.newBuilder() to construct.
+    private GetTransactionPageRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetTransactionPageRequest() {
+      rib_ = "";
+      dateTo_ = "";
+      dateFrom_ = "";
+      cursor_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetTransactionPageRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetTransactionPageRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              rib_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              dateTo_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              dateFrom_ = s;
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              cursor_ = s;
+              break;
+            }
+            case 40: {
+
+              size_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionPageRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionPageRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest.class, ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest.Builder.class);
+    }
+
+    public static final int RIB_FIELD_NUMBER = 1;
+    private volatile java.lang.Object rib_;
+    /**
+     * <code>string rib = 1;</code>
+     * @return The rib.
+     */
+    public java.lang.String getRib() {
+      java.lang.Object ref = rib_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        rib_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string rib = 1;</code>
+     * @return The bytes for rib.
+     */
+    public com.google.protobuf.ByteString
+        getRibBytes() {
+      java.lang.Object ref = rib_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        rib_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATETO_FIELD_NUMBER = 2;
+    private volatile java.lang.Object dateTo_;
+    /**
+     * <code>string dateTo = 2;</code>
+     * @return The dateTo.
+     */
+    public java.lang.String getDateTo() {
+      java.lang.Object ref = dateTo_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dateTo_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dateTo = 2;</code>
+     * @return The bytes for dateTo.
+     */
+    public com.google.protobuf.ByteString
+        getDateToBytes() {
+      java.lang.Object ref = dateTo_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dateTo_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATEFROM_FIELD_NUMBER = 3;
+    private volatile java.lang.Object dateFrom_;
+    /**
+     * <code>string dateFrom = 3;</code>
+     * @return The dateFrom.
+     */
+    public java.lang.String getDateFrom() {
+      java.lang.Object ref = dateFrom_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dateFrom_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dateFrom = 3;</code>
+     * @return The bytes for dateFrom.
+     */
+    public com.google.protobuf.ByteString
+        getDateFromBytes() {
+      java.lang.Object ref = dateFrom_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dateFrom_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CURSOR_FIELD_NUMBER = 4;
+    private volatile java.lang.Object cursor_;
+    /**
+     * <code>string cursor = 4;</code>
+     * @return The cursor.
+     */
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string cursor = 4;</code>
+     * @return The bytes for cursor.
+     */
+    public com.google.protobuf.ByteString
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SIZE_FIELD_NUMBER = 5;
+    private int size_;
+    /**
+     * <code>int32 size = 5;</code>
+     * @return The size.
+     */
+    public int getSize() {
+      return size_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getRibBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, rib_);
+      }
+      if (!getDateToBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, dateTo_);
+      }
+      if (!getDateFromBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, dateFrom_);
+      }
+      if (!getCursorBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, cursor_);
+      }
+      if (size_ != 0) {
+        output.writeInt32(5, size_);
       }
       unknownFields.writeTo(output);
     }
@@ -16111,6 +22156,13 @@ public final class Bank {
       if (!getDateFromBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, dateFrom_);
       }
+      if (!getCursorBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, cursor_);
+      }
+      if (size_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, size_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -16121,10 +22173,10 @@ public final class Bank {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest)) {
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest)) {
         return super.equals(obj);
       }
-      ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest other = (ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest) obj;
+      ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest other = (ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest) obj;
 
       if (!getRib()
           .equals(other.getRib())) return false;
@@ -16132,6 +22184,10 @@ public final class Bank {
           .equals(other.getDateTo())) return false;
       if (!getDateFrom()
           .equals(other.getDateFrom())) return false;
+      if (!getCursor()
+          .equals(other.getCursor())) return false;
+      if (getSize()
+          != other.getSize()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -16149,74 +22205,78 @@ public final class Bank {
       hash = (53 * hash) + getDateTo().hashCode();
       hash = (37 * hash) + DATEFROM_FIELD_NUMBER;
       hash = (53 * hash) + getDateFrom().hashCode();
+      hash = (37 * hash) + CURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getCursor().hashCode();
+      hash = (37 * hash) + SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getSize();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(byte[] data)
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(java.io.InputStream input)
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseDelimitedFrom(java.io.InputStream input)
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseDelimitedFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -16229,7 +22289,7 @@ public final class Bank {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest prototype) {
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -16245,26 +22305,30 @@ public final class Bank {
       return builder;
     }
     /**
-     * Protobuf type {@code GetTransactionsRequest}
+     * <pre>
+     * Page d'historique par curseur : renvoyer nextCursor dans cursor pour la page suivante
+     * </pre>
+     *
+     * Protobuf type {@code GetTransactionPageRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:GetTransactionsRequest)
-        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:GetTransactionPageRequest)
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsRequest_descriptor;
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionPageRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsRequest_fieldAccessorTable
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionPageRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.class, ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.Builder.class);
+                ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest.class, ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest.Builder.class);
       }
 
-      // Construct using ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.newBuilder()
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -16288,23 +22352,27 @@ public final class Bank {
 
         dateFrom_ = "";
 
+        cursor_ = "";
+
+        size_ = 0;
+
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsRequest_descriptor;
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionPageRequest_descriptor;
       }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest getDefaultInstanceForType() {
-        return ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.getDefaultInstance();
+      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest build() {
-        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest result = buildPartial();
+      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest build() {
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -16312,11 +22380,13 @@ public final class Bank {
       }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest buildPartial() {
-        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest result = new ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest(this);
+      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest result = new ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest(this);
         result.rib_ = rib_;
         result.dateTo_ = dateTo_;
         result.dateFrom_ = dateFrom_;
+        result.cursor_ = cursor_;
+        result.size_ = size_;
         onBuilt();
         return result;
       }
@@ -16355,16 +22425,16 @@ public final class Bank {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest) {
-          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest)other);
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest other) {
-        if (other == ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.getDefaultInstance()) return this;
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest.getDefaultInstance()) return this;
         if (!other.getRib().isEmpty()) {
           rib_ = other.rib_;
           onChanged();
@@ -16377,6 +22447,13 @@ public final class Bank {
           dateFrom_ = other.dateFrom_;
           onChanged();
         }
+        if (!other.getCursor().isEmpty()) {
+          cursor_ = other.cursor_;
+          onChanged();
+        }
+        if (other.getSize() != 0) {
+          setSize(other.getSize());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -16392,11 +22469,11 @@ public final class Bank {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest parsedMessage = null;
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest) e.getUnfinishedMessage();
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -16633,6 +22710,112 @@ public final class Bank {
         onChanged();
         return this;
       }
+
+      private java.lang.Object cursor_ = "";
+      /**
+       * <code>string cursor = 4;</code>
+       * @return The cursor.
+       */
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string cursor = 4;</code>
+       * @return The bytes for cursor.
+       */
+      public com.google.protobuf.ByteString
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string cursor = 4;</code>
+       * @param value The cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cursor = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCursor() {
+        
+        cursor_ = getDefaultInstance().getCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cursor = 4;</code>
+       * @param value The bytes for cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int size_ ;
+      /**
+       * <code>int32 size = 5;</code>
+       * @return The size.
+       */
+      public int getSize() {
+        return size_;
+      }
+      /**
+       * <code>int32 size = 5;</code>
+       * @param value The size to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSize(int value) {
+        
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 size = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSize() {
+        
+        size_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -16646,95 +22829,114 @@ public final class Bank {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:GetTransactionsRequest)
+      // @@protoc_insertion_point(builder_scope:GetTransactionPageRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:GetTransactionsRequest)
-    private static final ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:GetTransactionPageRequest)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest();
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest();
     }
 
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest getDefaultInstance() {
+    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetTransactionsRequest>
-        PARSER = new com.google.protobuf.AbstractParser<GetTransactionsRequest>() {
+    private static final com.google.protobuf.Parser<GetTransactionPageRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetTransactionPageRequest>() {
       @java.lang.Override
-      public GetTransactionsRequest parsePartialFrom(
+      public GetTransactionPageRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetTransactionsRequest(input, extensionRegistry);
+        return new GetTransactionPageRequest(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetTransactionsRequest> parser() {
+    public static com.google.protobuf.Parser<GetTransactionPageRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetTransactionsRequest> getParserForType() {
+    public com.google.protobuf.Parser<GetTransactionPageRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest getDefaultInstanceForType() {
+    public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetTransactionsResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:GetTransactionsResponse)
+  public interface TransactionPageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TransactionPage)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .TransactionDto transaction = 1;</code>
+     * <code>repeated .TransactionDto transactions = 1;</code>
      */
     java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> 
-        getTransactionList();
+        getTransactionsList();
     /**
-     * <code>repeated .TransactionDto transaction = 1;</code>
+     * <code>repeated .TransactionDto transactions = 1;</code>
      */
-    ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransaction(int index);
+    ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransactions(int index);
     /**
-     * <code>repeated .TransactionDto transaction = 1;</code>
+     * <code>repeated .TransactionDto transactions = 1;</code>
      */
-    int getTransactionCount();
+    int getTransactionsCount();
     /**
-     * <code>repeated .TransactionDto transaction = 1;</code>
+     * <code>repeated .TransactionDto transactions = 1;</code>
      */
     java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
-        getTransactionOrBuilderList();
+        getTransactionsOrBuilderList();
     /**
-     * <code>repeated .TransactionDto transaction = 1;</code>
+     * <code>repeated .TransactionDto transactions = 1;</code>
      */
-    ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionOrBuilder(
+    ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionsOrBuilder(
         int index);
+
+    /**
+     * <code>string nextCursor = 2;</code>
+     * @return The nextCursor.
+     */
+    java.lang.String getNextCursor();
+    /**
+     * <code>string nextCursor = 2;</code>
+     * @return The bytes for nextCursor.
+     */
+    com.google.protobuf.ByteString
+        getNextCursorBytes();
+
+    /**
+     * <code>bool hasNext = 3;</code>
+     * @return The hasNext.
+     */
+    boolean getHasNext();
   }
   /**
-   * Protobuf type {@code GetTransactionsResponse}
+   * Protobuf type {@code TransactionPage}
    */
-  public  static final class GetTransactionsResponse extends
+  public  static final class TransactionPage extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:GetTransactionsResponse)
-      GetTransactionsResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:TransactionPage)
+      TransactionPageOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetTransactionsResponse.newBuilder() to construct.
-    private GetTransactionsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use TransactionPage.newBuilder() to construct.
+    private TransactionPage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetTransactionsResponse() {
-      transaction_ = java.util.Collections.emptyList();
+    private TransactionPage() {
+      transactions_ = java.util.Collections.emptyList();
+      nextCursor_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetTransactionsResponse();
+      return new TransactionPage();
     }
 
     @java.lang.Override
@@ -16742,7 +22944,7 @@ public final class Bank {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetTransactionsResponse(
+    private TransactionPage(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -16763,13 +22965,24 @@ public final class Bank {
               break;
             case 10: {
               if (!((mutable_bitField0_ & 0x00000001) != 0)) {
-                transaction_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto>();
+                transactions_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto>();
                 mutable_bitField0_ |= 0x00000001;
               }
-              transaction_.add(
+              transactions_.add(
                   input.readMessage(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.parser(), extensionRegistry));
               break;
             }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              nextCursor_ = s;
+              break;
+            }
+            case 24: {
+
+              hasNext_ = input.readBool();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -16786,7 +22999,7 @@ public final class Bank {
             e).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000001) != 0)) {
-          transaction_ = java.util.Collections.unmodifiableList(transaction_);
+          transactions_ = java.util.Collections.unmodifiableList(transactions_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -16794,50 +23007,96 @@ public final class Bank {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsResponse_descriptor;
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionPage_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsResponse_fieldAccessorTable
+      return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionPage_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.class, ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.Builder.class);
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionPage.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionPage.Builder.class);
     }
 
-    public static final int TRANSACTION_FIELD_NUMBER = 1;
-    private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> transaction_;
+    public static final int TRANSACTIONS_FIELD_NUMBER = 1;
+    private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> transactions_;
     /**
-     * <code>repeated .TransactionDto transaction = 1;</code>
+     * <code>repeated .TransactionDto transactions = 1;</code>
      */
-    public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> getTransactionList() {
-      return transaction_;
+    public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> getTransactionsList() {
+      return transactions_;
     }
     /**
-     * <code>repeated .TransactionDto transaction = 1;</code>
+     * <code>repeated .TransactionDto transactions = 1;</code>
      */
     public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
-        getTransactionOrBuilderList() {
-      return transaction_;
+        getTransactionsOrBuilderList() {
+      return transactions_;
     }
     /**
-     * <code>repeated .TransactionDto transaction = 1;</code>
+     * <code>repeated .TransactionDto transactions = 1;</code>
      */
-    public int getTransactionCount() {
-      return transaction_.size();
+    public int getTransactionsCount() {
+      return transactions_.size();
     }
     /**
-     * <code>repeated .TransactionDto transaction = 1;</code>
+     * <code>repeated .TransactionDto transactions = 1;</code>
      */
-    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransaction(int index) {
-      return transaction_.get(index);
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransactions(int index) {
+      return transactions_.get(index);
     }
     /**
-     * <code>repeated .TransactionDto transaction = 1;</code>
+     * <code>repeated .TransactionDto transactions = 1;</code>
      */
-    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionOrBuilder(
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionsOrBuilder(
         int index) {
-      return transaction_.get(index);
+      return transactions_.get(index);
+    }
+
+    public static final int NEXTCURSOR_FIELD_NUMBER = 2;
+    private volatile java.lang.Object nextCursor_;
+    /**
+     * <code>string nextCursor = 2;</code>
+     * @return The nextCursor.
+     */
+    public java.lang.String getNextCursor() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextCursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string nextCursor = 2;</code>
+     * @return The bytes for nextCursor.
+     */
+    public com.google.protobuf.ByteString
+        getNextCursorBytes() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextCursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int HASNEXT_FIELD_NUMBER = 3;
+    private boolean hasNext_;
+    /**
+     * <code>bool hasNext = 3;</code>
+     * @return The hasNext.
+     */
+    public boolean getHasNext() {
+      return hasNext_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -16854,8 +23113,14 @@ public final class Bank {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < transaction_.size(); i++) {
-        output.writeMessage(1, transaction_.get(i));
+      for (int i = 0; i < transactions_.size(); i++) {
+        output.writeMessage(1, transactions_.get(i));
+      }
+      if (!getNextCursorBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, nextCursor_);
+      }
+      if (hasNext_ != false) {
+        output.writeBool(3, hasNext_);
       }
       unknownFields.writeTo(output);
     }
@@ -16866,9 +23131,16 @@ public final class Bank {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < transaction_.size(); i++) {
+      for (int i = 0; i < transactions_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, transaction_.get(i));
+          .computeMessageSize(1, transactions_.get(i));
+      }
+      if (!getNextCursorBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, nextCursor_);
+      }
+      if (hasNext_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, hasNext_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -16880,13 +23152,17 @@ public final class Bank {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse)) {
+      if (!(obj instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionPage)) {
         return super.equals(obj);
       }
-      ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse other = (ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse) obj;
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionPage other = (ma.formations.multiconnector.grpc.stub.Bank.TransactionPage) obj;
 
-      if (!getTransactionList()
-          .equals(other.getTransactionList())) return false;
+      if (!getTransactionsList()
+          .equals(other.getTransactionsList())) return false;
+      if (!getNextCursor()
+          .equals(other.getNextCursor())) return false;
+      if (getHasNext()
+          != other.getHasNext()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -16898,78 +23174,83 @@ public final class Bank {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (getTransactionCount() > 0) {
-        hash = (37 * hash) + TRANSACTION_FIELD_NUMBER;
-        hash = (53 * hash) + getTransactionList().hashCode();
-      }
+      if (getTransactionsCount() > 0) {
+        hash = (37 * hash) + TRANSACTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getTransactionsList().hashCode();
+      }
+      hash = (37 * hash) + NEXTCURSOR_FIELD_NUMBER;
+      hash = (53 * hash) + getNextCursor().hashCode();
+      hash = (37 * hash) + HASNEXT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getHasNext());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(byte[] data)
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(java.io.InputStream input)
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseDelimitedFrom(java.io.InputStream input)
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseDelimitedFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parseFrom(
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -16982,7 +23263,7 @@ public final class Bank {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse prototype) {
+    public static Builder newBuilder(ma.formations.multiconnector.grpc.stub.Bank.TransactionPage prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -16998,26 +23279,26 @@ public final class Bank {
       return builder;
     }
     /**
-     * Protobuf type {@code GetTransactionsResponse}
+     * Protobuf type {@code TransactionPage}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:GetTransactionsResponse)
-        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:TransactionPage)
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionPageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsResponse_descriptor;
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionPage_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsResponse_fieldAccessorTable
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionPage_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.class, ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.Builder.class);
+                ma.formations.multiconnector.grpc.stub.Bank.TransactionPage.class, ma.formations.multiconnector.grpc.stub.Bank.TransactionPage.Builder.class);
       }
 
-      // Construct using ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.newBuilder()
+      // Construct using ma.formations.multiconnector.grpc.stub.Bank.TransactionPage.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -17030,35 +23311,39 @@ public final class Bank {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
-          getTransactionFieldBuilder();
+          getTransactionsFieldBuilder();
         }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (transactionBuilder_ == null) {
-          transaction_ = java.util.Collections.emptyList();
+        if (transactionsBuilder_ == null) {
+          transactions_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000001);
         } else {
-          transactionBuilder_.clear();
+          transactionsBuilder_.clear();
         }
+        nextCursor_ = "";
+
+        hasNext_ = false;
+
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_GetTransactionsResponse_descriptor;
+        return ma.formations.multiconnector.grpc.stub.Bank.internal_static_TransactionPage_descriptor;
       }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse getDefaultInstanceForType() {
-        return ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.getDefaultInstance();
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionPage getDefaultInstanceForType() {
+        return ma.formations.multiconnector.grpc.stub.Bank.TransactionPage.getDefaultInstance();
       }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse build() {
-        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse result = buildPartial();
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionPage build() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionPage result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -17066,18 +23351,20 @@ public final class Bank {
       }
 
       @java.lang.Override
-      public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse buildPartial() {
-        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse result = new ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse(this);
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionPage buildPartial() {
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionPage result = new ma.formations.multiconnector.grpc.stub.Bank.TransactionPage(this);
         int from_bitField0_ = bitField0_;
-        if (transactionBuilder_ == null) {
+        if (transactionsBuilder_ == null) {
           if (((bitField0_ & 0x00000001) != 0)) {
-            transaction_ = java.util.Collections.unmodifiableList(transaction_);
+            transactions_ = java.util.Collections.unmodifiableList(transactions_);
             bitField0_ = (bitField0_ & ~0x00000001);
           }
-          result.transaction_ = transaction_;
+          result.transactions_ = transactions_;
         } else {
-          result.transaction_ = transactionBuilder_.build();
+          result.transactions_ = transactionsBuilder_.build();
         }
+        result.nextCursor_ = nextCursor_;
+        result.hasNext_ = hasNext_;
         onBuilt();
         return result;
       }
@@ -17116,42 +23403,49 @@ public final class Bank {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse) {
-          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse)other);
+        if (other instanceof ma.formations.multiconnector.grpc.stub.Bank.TransactionPage) {
+          return mergeFrom((ma.formations.multiconnector.grpc.stub.Bank.TransactionPage)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse other) {
-        if (other == ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse.getDefaultInstance()) return this;
-        if (transactionBuilder_ == null) {
-          if (!other.transaction_.isEmpty()) {
-            if (transaction_.isEmpty()) {
-              transaction_ = other.transaction_;
+      public Builder mergeFrom(ma.formations.multiconnector.grpc.stub.Bank.TransactionPage other) {
+        if (other == ma.formations.multiconnector.grpc.stub.Bank.TransactionPage.getDefaultInstance()) return this;
+        if (transactionsBuilder_ == null) {
+          if (!other.transactions_.isEmpty()) {
+            if (transactions_.isEmpty()) {
+              transactions_ = other.transactions_;
               bitField0_ = (bitField0_ & ~0x00000001);
             } else {
-              ensureTransactionIsMutable();
-              transaction_.addAll(other.transaction_);
+              ensureTransactionsIsMutable();
+              transactions_.addAll(other.transactions_);
             }
             onChanged();
           }
         } else {
-          if (!other.transaction_.isEmpty()) {
-            if (transactionBuilder_.isEmpty()) {
-              transactionBuilder_.dispose();
-              transactionBuilder_ = null;
-              transaction_ = other.transaction_;
+          if (!other.transactions_.isEmpty()) {
+            if (transactionsBuilder_.isEmpty()) {
+              transactionsBuilder_.dispose();
+              transactionsBuilder_ = null;
+              transactions_ = other.transactions_;
               bitField0_ = (bitField0_ & ~0x00000001);
-              transactionBuilder_ = 
+              transactionsBuilder_ = 
                 com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getTransactionFieldBuilder() : null;
+                   getTransactionsFieldBuilder() : null;
             } else {
-              transactionBuilder_.addAllMessages(other.transaction_);
+              transactionsBuilder_.addAllMessages(other.transactions_);
             }
           }
         }
+        if (!other.getNextCursor().isEmpty()) {
+          nextCursor_ = other.nextCursor_;
+          onChanged();
+        }
+        if (other.getHasNext() != false) {
+          setHasNext(other.getHasNext());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -17167,11 +23461,11 @@ public final class Bank {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse parsedMessage = null;
+        ma.formations.multiconnector.grpc.stub.Bank.TransactionPage parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse) e.getUnfinishedMessage();
+          parsedMessage = (ma.formations.multiconnector.grpc.stub.Bank.TransactionPage) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -17182,244 +23476,350 @@ public final class Bank {
       }
       private int bitField0_;
 
-      private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> transaction_ =
+      private java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> transactions_ =
         java.util.Collections.emptyList();
-      private void ensureTransactionIsMutable() {
+      private void ensureTransactionsIsMutable() {
         if (!((bitField0_ & 0x00000001) != 0)) {
-          transaction_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto>(transaction_);
+          transactions_ = new java.util.ArrayList<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto>(transactions_);
           bitField0_ |= 0x00000001;
          }
       }
 
       private com.google.protobuf.RepeatedFieldBuilderV3<
-          ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> transactionBuilder_;
+          ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> transactionsBuilder_;
 
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> getTransactionList() {
-        if (transactionBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(transaction_);
+      public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> getTransactionsList() {
+        if (transactionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(transactions_);
         } else {
-          return transactionBuilder_.getMessageList();
+          return transactionsBuilder_.getMessageList();
         }
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public int getTransactionCount() {
-        if (transactionBuilder_ == null) {
-          return transaction_.size();
+      public int getTransactionsCount() {
+        if (transactionsBuilder_ == null) {
+          return transactions_.size();
         } else {
-          return transactionBuilder_.getCount();
+          return transactionsBuilder_.getCount();
         }
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransaction(int index) {
-        if (transactionBuilder_ == null) {
-          return transaction_.get(index);
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto getTransactions(int index) {
+        if (transactionsBuilder_ == null) {
+          return transactions_.get(index);
         } else {
-          return transactionBuilder_.getMessage(index);
+          return transactionsBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public Builder setTransaction(
+      public Builder setTransactions(
           int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
-        if (transactionBuilder_ == null) {
+        if (transactionsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureTransactionIsMutable();
-          transaction_.set(index, value);
+          ensureTransactionsIsMutable();
+          transactions_.set(index, value);
           onChanged();
         } else {
-          transactionBuilder_.setMessage(index, value);
+          transactionsBuilder_.setMessage(index, value);
         }
         return this;
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public Builder setTransaction(
+      public Builder setTransactions(
           int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder builderForValue) {
-        if (transactionBuilder_ == null) {
-          ensureTransactionIsMutable();
-          transaction_.set(index, builderForValue.build());
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.set(index, builderForValue.build());
           onChanged();
         } else {
-          transactionBuilder_.setMessage(index, builderForValue.build());
+          transactionsBuilder_.setMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public Builder addTransaction(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
-        if (transactionBuilder_ == null) {
+      public Builder addTransactions(ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
+        if (transactionsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureTransactionIsMutable();
-          transaction_.add(value);
+          ensureTransactionsIsMutable();
+          transactions_.add(value);
           onChanged();
         } else {
-          transactionBuilder_.addMessage(value);
+          transactionsBuilder_.addMessage(value);
         }
         return this;
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public Builder addTransaction(
+      public Builder addTransactions(
           int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto value) {
-        if (transactionBuilder_ == null) {
+        if (transactionsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureTransactionIsMutable();
-          transaction_.add(index, value);
+          ensureTransactionsIsMutable();
+          transactions_.add(index, value);
           onChanged();
         } else {
-          transactionBuilder_.addMessage(index, value);
+          transactionsBuilder_.addMessage(index, value);
         }
         return this;
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public Builder addTransaction(
+      public Builder addTransactions(
           ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder builderForValue) {
-        if (transactionBuilder_ == null) {
-          ensureTransactionIsMutable();
-          transaction_.add(builderForValue.build());
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.add(builderForValue.build());
           onChanged();
         } else {
-          transactionBuilder_.addMessage(builderForValue.build());
+          transactionsBuilder_.addMessage(builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public Builder addTransaction(
+      public Builder addTransactions(
           int index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder builderForValue) {
-        if (transactionBuilder_ == null) {
-          ensureTransactionIsMutable();
-          transaction_.add(index, builderForValue.build());
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.add(index, builderForValue.build());
           onChanged();
         } else {
-          transactionBuilder_.addMessage(index, builderForValue.build());
+          transactionsBuilder_.addMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public Builder addAllTransaction(
+      public Builder addAllTransactions(
           java.lang.Iterable<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> values) {
-        if (transactionBuilder_ == null) {
-          ensureTransactionIsMutable();
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
           com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, transaction_);
+              values, transactions_);
           onChanged();
         } else {
-          transactionBuilder_.addAllMessages(values);
+          transactionsBuilder_.addAllMessages(values);
         }
         return this;
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public Builder clearTransaction() {
-        if (transactionBuilder_ == null) {
-          transaction_ = java.util.Collections.emptyList();
+      public Builder clearTransactions() {
+        if (transactionsBuilder_ == null) {
+          transactions_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000001);
           onChanged();
         } else {
-          transactionBuilder_.clear();
+          transactionsBuilder_.clear();
         }
         return this;
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public Builder removeTransaction(int index) {
-        if (transactionBuilder_ == null) {
-          ensureTransactionIsMutable();
-          transaction_.remove(index);
+      public Builder removeTransactions(int index) {
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.remove(index);
           onChanged();
         } else {
-          transactionBuilder_.remove(index);
+          transactionsBuilder_.remove(index);
         }
         return this;
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder getTransactionBuilder(
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder getTransactionsBuilder(
           int index) {
-        return getTransactionFieldBuilder().getBuilder(index);
+        return getTransactionsFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionOrBuilder(
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder getTransactionsOrBuilder(
           int index) {
-        if (transactionBuilder_ == null) {
-          return transaction_.get(index);  } else {
-          return transactionBuilder_.getMessageOrBuilder(index);
+        if (transactionsBuilder_ == null) {
+          return transactions_.get(index);  } else {
+          return transactionsBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
       public java.util.List<? extends ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
-           getTransactionOrBuilderList() {
-        if (transactionBuilder_ != null) {
-          return transactionBuilder_.getMessageOrBuilderList();
+           getTransactionsOrBuilderList() {
+        if (transactionsBuilder_ != null) {
+          return transactionsBuilder_.getMessageOrBuilderList();
         } else {
-          return java.util.Collections.unmodifiableList(transaction_);
+          return java.util.Collections.unmodifiableList(transactions_);
         }
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder addTransactionBuilder() {
-        return getTransactionFieldBuilder().addBuilder(
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder addTransactionsBuilder() {
+        return getTransactionsFieldBuilder().addBuilder(
             ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance());
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
-      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder addTransactionBuilder(
+      public ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder addTransactionsBuilder(
           int index) {
-        return getTransactionFieldBuilder().addBuilder(
+        return getTransactionsFieldBuilder().addBuilder(
             index, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance());
       }
       /**
-       * <code>repeated .TransactionDto transaction = 1;</code>
+       * <code>repeated .TransactionDto transactions = 1;</code>
        */
       public java.util.List<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder> 
-           getTransactionBuilderList() {
-        return getTransactionFieldBuilder().getBuilderList();
+           getTransactionsBuilderList() {
+        return getTransactionsFieldBuilder().getBuilderList();
       }
       private com.google.protobuf.RepeatedFieldBuilderV3<
           ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder> 
-          getTransactionFieldBuilder() {
-        if (transactionBuilder_ == null) {
-          transactionBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+          getTransactionsFieldBuilder() {
+        if (transactionsBuilder_ == null) {
+          transactionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
               ma.formations.multiconnector.grpc.stub.Bank.TransactionDto, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.Builder, ma.formations.multiconnector.grpc.stub.Bank.TransactionDtoOrBuilder>(
-                  transaction_,
+                  transactions_,
                   ((bitField0_ & 0x00000001) != 0),
                   getParentForChildren(),
                   isClean());
-          transaction_ = null;
+          transactions_ = null;
         }
-        return transactionBuilder_;
+        return transactionsBuilder_;
+      }
+
+      private java.lang.Object nextCursor_ = "";
+      /**
+       * <code>string nextCursor = 2;</code>
+       * @return The nextCursor.
+       */
+      public java.lang.String getNextCursor() {
+        java.lang.Object ref = nextCursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextCursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string nextCursor = 2;</code>
+       * @return The bytes for nextCursor.
+       */
+      public com.google.protobuf.ByteString
+          getNextCursorBytes() {
+        java.lang.Object ref = nextCursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextCursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string nextCursor = 2;</code>
+       * @param value The nextCursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        nextCursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string nextCursor = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNextCursor() {
+        
+        nextCursor_ = getDefaultInstance().getNextCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string nextCursor = 2;</code>
+       * @param value The bytes for nextCursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        nextCursor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean hasNext_ ;
+      /**
+       * <code>bool hasNext = 3;</code>
+       * @return The hasNext.
+       */
+      public boolean getHasNext() {
+        return hasNext_;
+      }
+      /**
+       * <code>bool hasNext = 3;</code>
+       * @param value The hasNext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHasNext(boolean value) {
+        
+        hasNext_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool hasNext = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHasNext() {
+        
+        hasNext_ = false;
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -17434,41 +23834,41 @@ public final class Bank {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:GetTransactionsResponse)
+      // @@protoc_insertion_point(builder_scope:TransactionPage)
     }
 
-    // @@protoc_insertion_point(class_scope:GetTransactionsResponse)
-    private static final ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:TransactionPage)
+    private static final ma.formations.multiconnector.grpc.stub.Bank.TransactionPage DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse();
+      DEFAULT_INSTANCE = new ma.formations.multiconnector.grpc.stub.Bank.TransactionPage();
     }
 
-    public static ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse getDefaultInstance() {
+    public static ma.formations.multiconnector.grpc.stub.Bank.TransactionPage getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetTransactionsResponse>
-        PARSER = new com.google.protobuf.AbstractParser<GetTransactionsResponse>() {
+    private static final com.google.protobuf.Parser<TransactionPage>
+        PARSER = new com.google.protobuf.AbstractParser<TransactionPage>() {
       @java.lang.Override
-      public GetTransactionsResponse parsePartialFrom(
+      public TransactionPage parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetTransactionsResponse(input, extensionRegistry);
+        return new TransactionPage(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetTransactionsResponse> parser() {
+    public static com.google.protobuf.Parser<TransactionPage> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetTransactionsResponse> getParserForType() {
+    public com.google.protobuf.Parser<TransactionPage> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse getDefaultInstanceForType() {
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionPage getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -19625,6 +26025,26 @@ public final class Bank {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_AddWirerTransferResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AddWirerTransfersRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AddWirerTransfersRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WirerTransferResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WirerTransferResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_AddWirerTransfersResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_AddWirerTransfersResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WirerTransferAck_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WirerTransferAck_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_GetTransactionsRequest_descriptor;
   private static final 
@@ -19635,6 +26055,16 @@ public final class Bank {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_GetTransactionsResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetTransactionPageRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetTransactionPageRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TransactionPage_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TransactionPage_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_UserDto_descriptor;
   private static final 
@@ -19654,72 +26084,98 @@ public final class Bank {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\nbank.proto\"\022\n\020CustomersRequest\"4\n\021Cust" +
-      "omersResponse\022\037\n\tcustomers\030\001 \003(\0132\014.Custo" +
-      "merDTO\"e\n\013CustomerDTO\022\n\n\002id\030\001 \001(\003\022\020\n\010use" +
-      "rname\030\002 \001(\t\022\023\n\013identityRef\030\003 \001(\t\022\021\n\tfirs" +
-      "tname\030\004 \001(\t\022\020\n\010lastname\030\005 \001(\t\"0\n\031Custome" +
-      "rByIdentityRequest\022\023\n\013identityRef\030\001 \001(\t\"" +
-      "<\n\032CustomerByIdentityResponse\022\036\n\010custome" +
-      "r\030\001 \001(\0132\014.CustomerDTO\"c\n\025CreateCustomerR" +
-      "equest\022\020\n\010username\030\001 \001(\t\022\023\n\013identityRef\030" +
-      "\002 \001(\t\022\021\n\tfirstname\030\003 \001(\t\022\020\n\010lastname\030\004 \001" +
-      "(\t\"I\n\026CreateCustomerResponse\022\017\n\007message\030" +
-      "\001 \001(\t\022\036\n\010customer\030\002 \001(\0132\014.CustomerDTO\"Z\n" +
-      "\025UpdateCustomerRequest\022\023\n\013identityRef\030\001 " +
-      "\001(\t\022,\n\017updatedCustomer\030\002 \001(\0132\023.UpdatedCu" +
-      "stomerDTO\"K\n\022UpdatedCustomerDTO\022\020\n\010usern" +
-      "ame\030\002 \001(\t\022\021\n\tfirstname\030\004 \001(\t\022\020\n\010lastname" +
-      "\030\005 \001(\t\"I\n\026UpdateCustomerResponse\022\017\n\007mess" +
-      "age\030\001 \001(\t\022\036\n\010customer\030\002 \001(\0132\014.CustomerDT" +
-      "O\",\n\025DeleteCustomerRequest\022\023\n\013identityRe" +
-      "f\030\001 \001(\t\")\n\026DeleteCustomerResponse\022\017\n\007mes" +
-      "sage\030\001 \001(\t\"\203\001\n\016BankAccountDto\022\n\n\002id\030\001 \001(" +
-      "\003\022\013\n\003rib\030\002 \001(\t\022\016\n\006amount\030\003 \001(\001\022\021\n\tcreate" +
-      "dAt\030\004 \001(\t\022\025\n\raccountStatus\030\005 \001(\t\022\036\n\010cust" +
-      "omer\030\006 \001(\0132\014.CustomerDTO\"\025\n\023BankAccounts" +
-      "Request\"<\n\024BankAccountsResponse\022$\n\013bankA" +
-      "ccount\030\001 \003(\0132\017.BankAccountDto\"&\n\027BankAcc" +
-      "ountByRibRequest\022\013\n\003rib\030\001 \001(\t\"@\n\030BankAcc" +
-      "ountByRibResponse\022$\n\013bankAccount\030\001 \001(\0132\017" +
-      ".BankAccountDto\"Q\n\025AddBankAccountRequest" +
-      "\022\013\n\003rib\030\001 \001(\t\022\016\n\006amount\030\002 \001(\001\022\033\n\023custome" +
-      "rIdentityRef\030\003 \001(\t\"O\n\026AddBankAccountResp" +
-      "onse\022\017\n\007message\030\001 \001(\t\022$\n\013bankAccount\030\002 \001" +
-      "(\0132\017.BankAccountDto\"[\n\027AddWirerTransferR" +
-      "equest\022\017\n\007ribFrom\030\001 \001(\t\022\r\n\005ribTo\030\002 \001(\t\022\016" +
-      "\n\006amount\030\003 \001(\001\022\020\n\010username\030\004 \001(\t\"}\n\030AddW" +
-      "irerTransferResponse\022\017\n\007message\030\001 \001(\t\022(\n" +
-      "\017transactionFrom\030\002 \001(\0132\017.TransactionDto\022" +
-      "&\n\rtransactionTo\030\003 \001(\0132\017.TransactionDto\"" +
-      "G\n\026GetTransactionsRequest\022\013\n\003rib\030\001 \001(\t\022\016" +
-      "\n\006dateTo\030\002 \001(\t\022\020\n\010dateFrom\030\003 \001(\t\"?\n\027GetT" +
-      "ransactionsResponse\022$\n\013transaction\030\001 \003(\013" +
-      "2\017.TransactionDto\"@\n\007UserDto\022\020\n\010username" +
-      "\030\001 \001(\t\022\021\n\tfirstname\030\002 \001(\t\022\020\n\010lastname\030\003 " +
-      "\001(\t\"\212\001\n\016TransactionDto\022\021\n\tcreatedAt\030\001 \001(" +
-      "\t\022\027\n\017transactionType\030\002 \001(\t\022\016\n\006amount\030\003 \001" +
-      "(\001\022$\n\013bankAccount\030\004 \001(\0132\017.BankAccountDto" +
-      "\022\026\n\004user\030\005 \001(\0132\010.UserDto2\261\005\n\013BankService" +
-      "\0222\n\tcustomers\022\021.CustomersRequest\032\022.Custo" +
-      "mersResponse\022M\n\022customerByIdentity\022\032.Cus" +
-      "tomerByIdentityRequest\032\033.CustomerByIdent" +
-      "ityResponse\022A\n\016createCustomer\022\026.CreateCu" +
-      "stomerRequest\032\027.CreateCustomerResponse\022A" +
-      "\n\016updateCustomer\022\026.UpdateCustomerRequest" +
-      "\032\027.UpdateCustomerResponse\022A\n\016deleteCusto" +
-      "mer\022\026.DeleteCustomerRequest\032\027.DeleteCust" +
-      "omerResponse\022;\n\014bankAccounts\022\024.BankAccou" +
-      "ntsRequest\032\025.BankAccountsResponse\022G\n\020ban" +
-      "kAccountByRib\022\030.BankAccountByRibRequest\032" +
-      "\031.BankAccountByRibResponse\022A\n\016addBankAcc" +
-      "ount\022\026.AddBankAccountRequest\032\027.AddBankAc" +
-      "countResponse\022G\n\020addWirerTransfer\022\030.AddW" +
-      "irerTransferRequest\032\031.AddWirerTransferRe" +
-      "sponse\022D\n\017getTransactions\022\027.GetTransacti" +
-      "onsRequest\032\030.GetTransactionsResponseB(\n&" +
-      "ma.formations.multiconnector.grpc.stubb\006" +
-      "proto3"
+      "\n\nbank.proto\"\\\n\020CustomersRequest\022\020\n\010page" +
+      "Size\030\001 \001(\005\022\021\n\tpageToken\030\002 \001(\t\022\017\n\007orderBy" +
+      "\030\003 \001(\t\022\022\n\ndescending\030\004 \001(\010\"K\n\021CustomersR" +
+      "esponse\022\037\n\tcustomers\030\001 \003(\0132\014.CustomerDTO" +
+      "\022\025\n\rnextPageToken\030\002 \001(\t\"e\n\013CustomerDTO\022\n" +
+      "\n\002id\030\001 \001(\003\022\020\n\010username\030\002 \001(\t\022\023\n\013identity" +
+      "Ref\030\003 \001(\t\022\021\n\tfirstname\030\004 \001(\t\022\020\n\010lastname" +
+      "\030\005 \001(\t\"0\n\031CustomerByIdentityRequest\022\023\n\013i" +
+      "dentityRef\030\001 \001(\t\"<\n\032CustomerByIdentityRe" +
+      "sponse\022\036\n\010customer\030\001 \001(\0132\014.CustomerDTO\"c" +
+      "\n\025CreateCustomerRequest\022\020\n\010username\030\001 \001(" +
+      "\t\022\023\n\013identityRef\030\002 \001(\t\022\021\n\tfirstname\030\003 \001(" +
+      "\t\022\020\n\010lastname\030\004 \001(\t\"I\n\026CreateCustomerRes" +
+      "ponse\022\017\n\007message\030\001 \001(\t\022\036\n\010customer\030\002 \001(\013" +
+      "2\014.CustomerDTO\"Z\n\025UpdateCustomerRequest\022" +
+      "\023\n\013identityRef\030\001 \001(\t\022,\n\017updatedCustomer\030" +
+      "\002 \001(\0132\023.UpdatedCustomerDTO\"K\n\022UpdatedCus" +
+      "tomerDTO\022\020\n\010username\030\002 \001(\t\022\021\n\tfirstname\030" +
+      "\004 \001(\t\022\020\n\010lastname\030\005 \001(\t\"I\n\026UpdateCustome" +
+      "rResponse\022\017\n\007message\030\001 \001(\t\022\036\n\010customer\030\002" +
+      " \001(\0132\014.CustomerDTO\",\n\025DeleteCustomerRequ" +
+      "est\022\023\n\013identityRef\030\001 \001(\t\")\n\026DeleteCustom" +
+      "erResponse\022\017\n\007message\030\001 \001(\t\"\203\001\n\016BankAcco" +
+      "untDto\022\n\n\002id\030\001 \001(\003\022\013\n\003rib\030\002 \001(\t\022\016\n\006amoun" +
+      "t\030\003 \001(\001\022\021\n\tcreatedAt\030\004 \001(\t\022\025\n\raccountSta" +
+      "tus\030\005 \001(\t\022\036\n\010customer\030\006 \001(\0132\014.CustomerDT" +
+      "O\"_\n\023BankAccountsRequest\022\020\n\010pageSize\030\001 \001" +
+      "(\005\022\021\n\tpageToken\030\002 \001(\t\022\017\n\007orderBy\030\003 \001(\t\022\022" +
+      "\n\ndescending\030\004 \001(\010\"S\n\024BankAccountsRespon" +
+      "se\022$\n\013bankAccount\030\001 \003(\0132\017.BankAccountDto" +
+      "\022\025\n\rnextPageToken\030\002 \001(\t\"&\n\027BankAccountBy" +
+      "RibRequest\022\013\n\003rib\030\001 \001(\t\"@\n\030BankAccountBy" +
+      "RibResponse\022$\n\013bankAccount\030\001 \001(\0132\017.BankA" +
+      "ccountDto\"Q\n\025AddBankAccountRequest\022\013\n\003ri" +
+      "b\030\001 \001(\t\022\016\n\006amount\030\002 \001(\001\022\033\n\023customerIdent" +
+      "ityRef\030\003 \001(\t\"O\n\026AddBankAccountResponse\022\017" +
+      "\n\007message\030\001 \001(\t\022$\n\013bankAccount\030\002 \001(\0132\017.B" +
+      "ankAccountDto\"[\n\027AddWirerTransferRequest" +
+      "\022\017\n\007ribFrom\030\001 \001(\t\022\r\n\005ribTo\030\002 \001(\t\022\016\n\006amou" +
+      "nt\030\003 \001(\001\022\020\n\010username\030\004 \001(\t\"}\n\030AddWirerTr" +
+      "ansferResponse\022\017\n\007message\030\001 \001(\t\022(\n\017trans" +
+      "actionFrom\030\002 \001(\0132\017.TransactionDto\022&\n\rtra" +
+      "nsactionTo\030\003 \001(\0132\017.TransactionDto\"G\n\030Add" +
+      "WirerTransfersRequest\022+\n\ttransfers\030\001 \003(\013" +
+      "2\030.AddWirerTransferRequest\"F\n\023WirerTrans" +
+      "ferResult\022\r\n\005index\030\001 \001(\005\022\017\n\007success\030\002 \001(" +
+      "\010\022\017\n\007message\030\003 \001(\t\"e\n\031AddWirerTransfersR" +
+      "esponse\022\021\n\tsucceeded\030\001 \001(\005\022\016\n\006failed\030\002 \001" +
+      "(\005\022%\n\007results\030\003 \003(\0132\024.WirerTransferResul" +
+      "t\"F\n\020WirerTransferAck\022\020\n\010sequence\030\001 \001(\003\022" +
+      "\017\n\007success\030\002 \001(\010\022\017\n\007message\030\003 \001(\t\"G\n\026Get" +
+      "TransactionsRequest\022\013\n\003rib\030\001 \001(\t\022\016\n\006date" +
+      "To\030\002 \001(\t\022\020\n\010dateFrom\030\003 \001(\t\"?\n\027GetTransac" +
+      "tionsResponse\022$\n\013transaction\030\001 \003(\0132\017.Tra" +
+      "nsactionDto\"h\n\031GetTransactionPageRequest" +
+      "\022\013\n\003rib\030\001 \001(\t\022\016\n\006dateTo\030\002 \001(\t\022\020\n\010dateFro" +
+      "m\030\003 \001(\t\022\016\n\006cursor\030\004 \001(\t\022\014\n\004size\030\005 \001(\005\"]\n" +
+      "\017TransactionPage\022%\n\014transactions\030\001 \003(\0132\017" +
+      ".TransactionDto\022\022\n\nnextCursor\030\002 \001(\t\022\017\n\007h" +
+      "asNext\030\003 \001(\010\"@\n\007UserDto\022\020\n\010username\030\001 \001(" +
+      "\t\022\021\n\tfirstname\030\002 \001(\t\022\020\n\010lastname\030\003 \001(\t\"\212" +
+      "\001\n\016TransactionDto\022\021\n\tcreatedAt\030\001 \001(\t\022\027\n\017" +
+      "transactionType\030\002 \001(\t\022\016\n\006amount\030\003 \001(\001\022$\n" +
+      "\013bankAccount\030\004 \001(\0132\017.BankAccountDto\022\026\n\004u" +
+      "ser\030\005 \001(\0132\010.UserDto2\213\010\n\013BankService\0222\n\tc" +
+      "ustomers\022\021.CustomersRequest\032\022.CustomersR" +
+      "esponse\022M\n\022customerByIdentity\022\032.Customer" +
+      "ByIdentityRequest\032\033.CustomerByIdentityRe" +
+      "sponse\022A\n\016createCustomer\022\026.CreateCustome" +
+      "rRequest\032\027.CreateCustomerResponse\022A\n\016upd" +
+      "ateCustomer\022\026.UpdateCustomerRequest\032\027.Up" +
+      "dateCustomerResponse\022A\n\016deleteCustomer\022\026" +
+      ".DeleteCustomerRequest\032\027.DeleteCustomerR" +
+      "esponse\022;\n\014bankAccounts\022\024.BankAccountsRe" +
+      "quest\032\025.BankAccountsResponse\022=\n\022streamBa" +
+      "nkAccounts\022\024.BankAccountsRequest\032\017.BankA" +
+      "ccountDto0\001\022G\n\020bankAccountByRib\022\030.BankAc" +
+      "countByRibRequest\032\031.BankAccountByRibResp" +
+      "onse\022A\n\016addBankAccount\022\026.AddBankAccountR" +
+      "equest\032\027.AddBankAccountResponse\022G\n\020addWi" +
+      "rerTransfer\022\030.AddWirerTransferRequest\032\031." +
+      "AddWirerTransferResponse\022J\n\021addWirerTran" +
+      "sfers\022\031.AddWirerTransfersRequest\032\032.AddWi" +
+      "rerTransfersResponse\022G\n\024streamWirerTrans" +
+      "fers\022\030.AddWirerTransferRequest\032\021.WirerTr" +
+      "ansferAck(\0010\001\022D\n\017getTransactions\022\027.GetTr" +
+      "ansactionsRequest\032\030.GetTransactionsRespo" +
+      "nse\022@\n\022streamTransactions\022\027.GetTransacti" +
+      "onsRequest\032\017.TransactionDto0\001\022B\n\022getTran" +
+      "sactionPage\022\032.GetTransactionPageRequest\032" +
+      "\020.TransactionPageB(\n&ma.formations.multi" +
+      "connector.grpc.stubb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -19730,13 +26186,13 @@ public final class Bank {
     internal_static_CustomersRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_CustomersRequest_descriptor,
-        new java.lang.String[] { });
+        new java.lang.String[] { "PageSize", "PageToken", "OrderBy", "Descending", });
     internal_static_CustomersResponse_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_CustomersResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_CustomersResponse_descriptor,
-        new java.lang.String[] { "Customers", });
+        new java.lang.String[] { "Customers", "NextPageToken", });
     internal_static_CustomerDTO_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_CustomerDTO_fieldAccessorTable = new
@@ -19808,13 +26264,13 @@ public final class Bank {
     internal_static_BankAccountsRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_BankAccountsRequest_descriptor,
-        new java.lang.String[] { });
+        new java.lang.String[] { "PageSize", "PageToken", "OrderBy", "Descending", });
     internal_static_BankAccountsResponse_descriptor =
       getDescriptor().getMessageTypes().get(14);
     internal_static_BankAccountsResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_BankAccountsResponse_descriptor,
-        new java.lang.String[] { "BankAccount", });
+        new java.lang.String[] { "BankAccount", "NextPageToken", });
     internal_static_BankAccountByRibRequest_descriptor =
       getDescriptor().getMessageTypes().get(15);
     internal_static_BankAccountByRibRequest_fieldAccessorTable = new
@@ -19851,26 +26307,62 @@ public final class Bank {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_AddWirerTransferResponse_descriptor,
         new java.lang.String[] { "Message", "TransactionFrom", "TransactionTo", });
-    internal_static_GetTransactionsRequest_descriptor =
+    internal_static_AddWirerTransfersRequest_descriptor =
       getDescriptor().getMessageTypes().get(21);
+    internal_static_AddWirerTransfersRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AddWirerTransfersRequest_descriptor,
+        new java.lang.String[] { "Transfers", });
+    internal_static_WirerTransferResult_descriptor =
+      getDescriptor().getMessageTypes().get(22);
+    internal_static_WirerTransferResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WirerTransferResult_descriptor,
+        new java.lang.String[] { "Index", "Success", "Message", });
+    internal_static_AddWirerTransfersResponse_descriptor =
+      getDescriptor().getMessageTypes().get(23);
+    internal_static_AddWirerTransfersResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_AddWirerTransfersResponse_descriptor,
+        new java.lang.String[] { "Succeeded", "Failed", "Results", });
+    internal_static_WirerTransferAck_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_WirerTransferAck_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WirerTransferAck_descriptor,
+        new java.lang.String[] { "Sequence", "Success", "Message", });
+    internal_static_GetTransactionsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(25);
     internal_static_GetTransactionsRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetTransactionsRequest_descriptor,
         new java.lang.String[] { "Rib", "DateTo", "DateFrom", });
     internal_static_GetTransactionsResponse_descriptor =
-      getDescriptor().getMessageTypes().get(22);
+      getDescriptor().getMessageTypes().get(26);
     internal_static_GetTransactionsResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetTransactionsResponse_descriptor,
         new java.lang.String[] { "Transaction", });
+    internal_static_GetTransactionPageRequest_descriptor =
+      getDescriptor().getMessageTypes().get(27);
+    internal_static_GetTransactionPageRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetTransactionPageRequest_descriptor,
+        new java.lang.String[] { "Rib", "DateTo", "DateFrom", "Cursor", "Size", });
+    internal_static_TransactionPage_descriptor =
+      getDescriptor().getMessageTypes().get(28);
+    internal_static_TransactionPage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TransactionPage_descriptor,
+        new java.lang.String[] { "Transactions", "NextCursor", "HasNext", });
     internal_static_UserDto_descriptor =
-      getDescriptor().getMessageTypes().get(23);
+      getDescriptor().getMessageTypes().get(29);
     internal_static_UserDto_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_UserDto_descriptor,
         new java.lang.String[] { "Username", "Firstname", "Lastname", });
     internal_static_TransactionDto_descriptor =
-      getDescriptor().getMessageTypes().get(24);
+      getDescriptor().getMessageTypes().get(30);
     internal_static_TransactionDto_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_TransactionDto_descriptor,
@@ -201,6 +201,37 @@ public final class BankServiceGrpc {
     return getBankAccountsMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> getStreamBankAccountsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "streamBankAccounts",
+      requestType = ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest.class,
+      responseType = ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> getStreamBankAccountsMethod() {
+    io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> getStreamBankAccountsMethod;
+    if ((getStreamBankAccountsMethod = BankServiceGrpc.getStreamBankAccountsMethod) == null) {
+      synchronized (BankServiceGrpc.class) {
+        if ((getStreamBankAccountsMethod = BankServiceGrpc.getStreamBankAccountsMethod) == null) {
+          BankServiceGrpc.getStreamBankAccountsMethod = getStreamBankAccountsMethod =
+              io.grpc.MethodDescriptor.<ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest, ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "streamBankAccounts"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto.getDefaultInstance()))
+              .setSchemaDescriptor(new BankServiceMethodDescriptorSupplier("streamBankAccounts"))
+              .build();
+        }
+      }
+    }
+    return getStreamBankAccountsMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibRequest,
       ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibResponse> getBankAccountByRibMethod;
 
@@ -294,6 +325,68 @@ public final class BankServiceGrpc {
     return getAddWirerTransferMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse> getAddWirerTransfersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "addWirerTransfers",
+      requestType = ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest.class,
+      responseType = ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse> getAddWirerTransfersMethod() {
+    io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse> getAddWirerTransfersMethod;
+    if ((getAddWirerTransfersMethod = BankServiceGrpc.getAddWirerTransfersMethod) == null) {
+      synchronized (BankServiceGrpc.class) {
+        if ((getAddWirerTransfersMethod = BankServiceGrpc.getAddWirerTransfersMethod) == null) {
+          BankServiceGrpc.getAddWirerTransfersMethod = getAddWirerTransfersMethod =
+              io.grpc.MethodDescriptor.<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest, ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "addWirerTransfers"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new BankServiceMethodDescriptorSupplier("addWirerTransfers"))
+              .build();
+        }
+      }
+    }
+    return getAddWirerTransfersMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck> getStreamWirerTransfersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "streamWirerTransfers",
+      requestType = ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.class,
+      responseType = ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck> getStreamWirerTransfersMethod() {
+    io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck> getStreamWirerTransfersMethod;
+    if ((getStreamWirerTransfersMethod = BankServiceGrpc.getStreamWirerTransfersMethod) == null) {
+      synchronized (BankServiceGrpc.class) {
+        if ((getStreamWirerTransfersMethod = BankServiceGrpc.getStreamWirerTransfersMethod) == null) {
+          BankServiceGrpc.getStreamWirerTransfersMethod = getStreamWirerTransfersMethod =
+              io.grpc.MethodDescriptor.<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest, ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "streamWirerTransfers"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck.getDefaultInstance()))
+              .setSchemaDescriptor(new BankServiceMethodDescriptorSupplier("streamWirerTransfers"))
+              .build();
+        }
+      }
+    }
+    return getStreamWirerTransfersMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest,
       ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse> getGetTransactionsMethod;
 
@@ -325,6 +418,68 @@ public final class BankServiceGrpc {
     return getGetTransactionsMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> getStreamTransactionsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "streamTransactions",
+      requestType = ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.class,
+      responseType = ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> getStreamTransactionsMethod() {
+    io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> getStreamTransactionsMethod;
+    if ((getStreamTransactionsMethod = BankServiceGrpc.getStreamTransactionsMethod) == null) {
+      synchronized (BankServiceGrpc.class) {
+        if ((getStreamTransactionsMethod = BankServiceGrpc.getStreamTransactionsMethod) == null) {
+          BankServiceGrpc.getStreamTransactionsMethod = getStreamTransactionsMethod =
+              io.grpc.MethodDescriptor.<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest, ma.formations.multiconnector.grpc.stub.Bank.TransactionDto>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "streamTransactions"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.TransactionDto.getDefaultInstance()))
+              .setSchemaDescriptor(new BankServiceMethodDescriptorSupplier("streamTransactions"))
+              .build();
+        }
+      }
+    }
+    return getStreamTransactionsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionPage> getGetTransactionPageMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getTransactionPage",
+      requestType = ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest.class,
+      responseType = ma.formations.multiconnector.grpc.stub.Bank.TransactionPage.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest,
+      ma.formations.multiconnector.grpc.stub.Bank.TransactionPage> getGetTransactionPageMethod() {
+    io.grpc.MethodDescriptor<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest, ma.formations.multiconnector.grpc.stub.Bank.TransactionPage> getGetTransactionPageMethod;
+    if ((getGetTransactionPageMethod = BankServiceGrpc.getGetTransactionPageMethod) == null) {
+      synchronized (BankServiceGrpc.class) {
+        if ((getGetTransactionPageMethod = BankServiceGrpc.getGetTransactionPageMethod) == null) {
+          BankServiceGrpc.getGetTransactionPageMethod = getGetTransactionPageMethod =
+              io.grpc.MethodDescriptor.<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest, ma.formations.multiconnector.grpc.stub.Bank.TransactionPage>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getTransactionPage"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  ma.formations.multiconnector.grpc.stub.Bank.TransactionPage.getDefaultInstance()))
+              .setSchemaDescriptor(new BankServiceMethodDescriptorSupplier("getTransactionPage"))
+              .build();
+        }
+      }
+    }
+    return getGetTransactionPageMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -415,6 +570,13 @@ public final class BankServiceGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getBankAccountsMethod(), responseObserver);
     }
 
+    /**
+     */
+    default void streamBankAccounts(ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStreamBankAccountsMethod(), responseObserver);
+    }
+
     /**
      */
     default void bankAccountByRib(ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibRequest request,
@@ -436,12 +598,40 @@ public final class BankServiceGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAddWirerTransferMethod(), responseObserver);
     }
 
+    /**
+     */
+    default void addWirerTransfers(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAddWirerTransfersMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest> streamWirerTransfers(
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getStreamWirerTransfersMethod(), responseObserver);
+    }
+
     /**
      */
     default void getTransactions(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request,
         io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetTransactionsMethod(), responseObserver);
     }
+
+    /**
+     */
+    default void streamTransactions(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStreamTransactionsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void getTransactionPage(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionPage> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetTransactionPageMethod(), responseObserver);
+    }
   }
 
   /**
@@ -519,6 +709,14 @@ public final class BankServiceGrpc {
           getChannel().newCall(getBankAccountsMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     */
+    public void streamBankAccounts(ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getStreamBankAccountsMethod(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      */
     public void bankAccountByRib(ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibRequest request,
@@ -543,6 +741,22 @@ public final class BankServiceGrpc {
           getChannel().newCall(getAddWirerTransferMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     */
+    public void addWirerTransfers(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getAddWirerTransfersMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest> streamWirerTransfers(
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getStreamWirerTransfersMethod(), getCallOptions()), responseObserver);
+    }
+
     /**
      */
     public void getTransactions(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request,
@@ -550,6 +764,22 @@ public final class BankServiceGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getGetTransactionsMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public void streamTransactions(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getStreamTransactionsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getTransactionPage(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest request,
+        io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionPage> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetTransactionPageMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -610,6 +840,14 @@ public final class BankServiceGrpc {
           getChannel(), getBankAccountsMethod(), getCallOptions(), request);
     }
 
+    /**
+     */
+    public java.util.Iterator<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto> streamBankAccounts(
+        ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getStreamBankAccountsMethod(), getCallOptions(), request);
+    }
+
     /**
      */
     public ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibResponse bankAccountByRib(ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibRequest request) {
@@ -631,12 +869,34 @@ public final class BankServiceGrpc {
           getChannel(), getAddWirerTransferMethod(), getCallOptions(), request);
     }
 
+    /**
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse addWirerTransfers(ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getAddWirerTransfersMethod(), getCallOptions(), request);
+    }
+
     /**
      */
     public ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse getTransactions(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request) {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getGetTransactionsMethod(), getCallOptions(), request);
     }
+
+    /**
+     */
+    public java.util.Iterator<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto> streamTransactions(
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getStreamTransactionsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public ma.formations.multiconnector.grpc.stub.Bank.TransactionPage getTransactionPage(ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetTransactionPageMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -727,6 +987,14 @@ public final class BankServiceGrpc {
           getChannel().newCall(getAddWirerTransferMethod(), getCallOptions()), request);
     }
 
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse> addWirerTransfers(
+        ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getAddWirerTransfersMethod(), getCallOptions()), request);
+    }
+
     /**
      */
     public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse> getTransactions(
@@ -734,6 +1002,14 @@ public final class BankServiceGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getGetTransactionsMethod(), getCallOptions()), request);
     }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<ma.formations.multiconnector.grpc.stub.Bank.TransactionPage> getTransactionPage(
+        ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetTransactionPageMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_CUSTOMERS = 0;
@@ -742,10 +1018,15 @@ public final class BankServiceGrpc {
   private static final int METHODID_UPDATE_CUSTOMER = 3;
   private static final int METHODID_DELETE_CUSTOMER = 4;
   private static final int METHODID_BANK_ACCOUNTS = 5;
-  private static final int METHODID_BANK_ACCOUNT_BY_RIB = 6;
-  private static final int METHODID_ADD_BANK_ACCOUNT = 7;
-  private static final int METHODID_ADD_WIRER_TRANSFER = 8;
-  private static final int METHODID_GET_TRANSACTIONS = 9;
+  private static final int METHODID_STREAM_BANK_ACCOUNTS = 6;
+  private static final int METHODID_BANK_ACCOUNT_BY_RIB = 7;
+  private static final int METHODID_ADD_BANK_ACCOUNT = 8;
+  private static final int METHODID_ADD_WIRER_TRANSFER = 9;
+  private static final int METHODID_ADD_WIRER_TRANSFERS = 10;
+  private static final int METHODID_GET_TRANSACTIONS = 11;
+  private static final int METHODID_STREAM_TRANSACTIONS = 12;
+  private static final int METHODID_GET_TRANSACTION_PAGE = 13;
+  private static final int METHODID_STREAM_WIRER_TRANSFERS = 14;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -788,6 +1069,10 @@ public final class BankServiceGrpc {
           serviceImpl.bankAccounts((ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest) request,
               (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse>) responseObserver);
           break;
+        case METHODID_STREAM_BANK_ACCOUNTS:
+          serviceImpl.streamBankAccounts((ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest) request,
+              (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto>) responseObserver);
+          break;
         case METHODID_BANK_ACCOUNT_BY_RIB:
           serviceImpl.bankAccountByRib((ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibRequest) request,
               (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.BankAccountByRibResponse>) responseObserver);
@@ -800,10 +1085,22 @@ public final class BankServiceGrpc {
           serviceImpl.addWirerTransfer((ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest) request,
               (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferResponse>) responseObserver);
           break;
+        case METHODID_ADD_WIRER_TRANSFERS:
+          serviceImpl.addWirerTransfers((ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest) request,
+              (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse>) responseObserver);
+          break;
         case METHODID_GET_TRANSACTIONS:
           serviceImpl.getTransactions((ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest) request,
               (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse>) responseObserver);
           break;
+        case METHODID_STREAM_TRANSACTIONS:
+          serviceImpl.streamTransactions((ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest) request,
+              (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionDto>) responseObserver);
+          break;
+        case METHODID_GET_TRANSACTION_PAGE:
+          serviceImpl.getTransactionPage((ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest) request,
+              (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.TransactionPage>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -814,6 +1111,9 @@ public final class BankServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_STREAM_WIRER_TRANSFERS:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.streamWirerTransfers(
+              (io.grpc.stub.StreamObserver<ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -864,6 +1164,13 @@ public final class BankServiceGrpc {
               ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest,
               ma.formations.multiconnector.grpc.stub.Bank.BankAccountsResponse>(
                 service, METHODID_BANK_ACCOUNTS)))
+        .addMethod(
+          getStreamBankAccountsMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              ma.formations.multiconnector.grpc.stub.Bank.BankAccountsRequest,
+              ma.formations.multiconnector.grpc.stub.Bank.BankAccountDto>(
+                service, METHODID_STREAM_BANK_ACCOUNTS)))
         .addMethod(
           getBankAccountByRibMethod(),
           io.grpc.stub.ServerCalls.asyncUnaryCall(
@@ -885,6 +1192,20 @@ public final class BankServiceGrpc {
               ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest,
               ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferResponse>(
                 service, METHODID_ADD_WIRER_TRANSFER)))
+        .addMethod(
+          getAddWirerTransfersMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersRequest,
+              ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransfersResponse>(
+                service, METHODID_ADD_WIRER_TRANSFERS)))
+        .addMethod(
+          getStreamWirerTransfersMethod(),
+          io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+            new MethodHandlers<
+              ma.formations.multiconnector.grpc.stub.Bank.AddWirerTransferRequest,
+              ma.formations.multiconnector.grpc.stub.Bank.WirerTransferAck>(
+                service, METHODID_STREAM_WIRER_TRANSFERS)))
         .addMethod(
           getGetTransactionsMethod(),
           io.grpc.stub.ServerCalls.asyncUnaryCall(
@@ -892,6 +1213,20 @@ public final class BankServiceGrpc {
               ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest,
               ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsResponse>(
                 service, METHODID_GET_TRANSACTIONS)))
+        .addMethod(
+          getStreamTransactionsMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              ma.formations.multiconnector.grpc.stub.Bank.GetTransactionsRequest,
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionDto>(
+                service, METHODID_STREAM_TRANSACTIONS)))
+        .addMethod(
+          getGetTransactionPageMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              ma.formations.multiconnector.grpc.stub.Bank.GetTransactionPageRequest,
+              ma.formations.multiconnector.grpc.stub.Bank.TransactionPage>(
+                service, METHODID_GET_TRANSACTION_PAGE)))
         .build();
   }
 
@@ -946,10 +1281,15 @@ public final class BankServiceGrpc {
               .addMethod(getUpdateCustomerMethod())
               .addMethod(getDeleteCustomerMethod())
               .addMethod(getBankAccountsMethod())
+              .addMethod(getStreamBankAccountsMethod())
               .addMethod(getBankAccountByRibMethod())
               .addMethod(getAddBankAccountMethod())
               .addMethod(getAddWirerTransferMethod())
+              .addMethod(getAddWirerTransfersMethod())
+              .addMethod(getStreamWirerTransfersMethod())
               .addMethod(getGetTransactionsMethod())
+              .addMethod(getStreamTransactionsMethod())
+              .addMethod(getGetTransactionPageMethod())
               .build();
         }
       }
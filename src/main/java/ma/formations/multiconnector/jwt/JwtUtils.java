@@ -1,6 +1,10 @@
 package ma.formations.multiconnector.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,9 +13,14 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
@@ -24,6 +33,36 @@ public class JwtUtils {
     @Value("${expiration_delay}")
     private int delaiExpiration;
 
+    @Value("${bank.security.jwt-cache.max-size:10000}")
+    private long verifiedTokensMaxSize;
+
+    // Empreinte SHA-256 du jeton -> claims déjà vérifiés, chaque entrée expire avec son jeton
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void initVerifiedTokens() {
+        verifiedTokens = Caffeine.newBuilder().
+                maximumSize(verifiedTokensMaxSize).
+                expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                }).
+                build();
+    }
+
     public String generateJwtToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
 
@@ -42,17 +81,36 @@ public class JwtUtils {
     }
 
     public String getUserNameFromJwtToken(String token) {
+        return getClaimsFromJwtToken(token).getSubject();
+    }
+
+    public Claims getClaimsFromJwtToken(String token) {
         return Jwts.parser()
                 .setSigningKey(jwtSecret)
                 .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+                .getBody();
     }
 
     public boolean validateJwtToken(String authToken) {
+        return getValidClaims(authToken) != null;
+    }
+
+    /**
+     * Vérifie le jeton (signature, expiration) en un seul parsing et renvoie ses claims,
+     * ou null si le jeton n'est pas valide. Un jeton déjà vérifié n'est ni re-décodé ni re-signé.
+     */
+    public Claims getValidClaims(String authToken) {
+        if (authToken == null || authToken.isEmpty())
+            return null;
+        String digest = digest(authToken);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null)
+            return cached;
         try {
-            Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(authToken);
-            return true;
+            Claims claims = getClaimsFromJwtToken(authToken);
+            if (claims.getExpiration() != null)
+                verifiedTokens.put(digest, claims);
+            return claims;
         } catch (SignatureException e) {
             logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -64,6 +122,15 @@ public class JwtUtils {
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package ma.formations.multiconnector.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import ma.formations.multiconnector.dtos.user.RoleVo;
+import ma.formations.multiconnector.dtos.user.UserVo;
+import ma.formations.multiconnector.enums.PrincipalMode;
+import ma.formations.multiconnector.service.event.SecurityDataChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Principal d'une requête authentifiée par JWT, sans requête en base quand c'est possible :
+ * - CACHE : UserDetails chargé une fois par (username, date d'émission du jeton) puis gardé ttl-seconds,
+ * invalidé après commit quand l'utilisateur, un rôle ou une permission change ;
+ * - CLAIMS : autorités lues directement dans le claim "roles" du jeton, aucune lecture en base.
+ */
+@Component
+public class PrincipalResolver {
+    private final UserDetailsService userDetailsService;
+    private final PrincipalMode mode;
+    private final Cache<PrincipalKey, UserDetails> principals;
+
+    public PrincipalResolver(UserDetailsService userDetailsService, MeterRegistry meterRegistry,
+                             @Value("${bank.security.principal.mode:CACHE}") PrincipalMode mode,
+                             @Value("${bank.security.principal.cache.max-size:10000}") long maxSize,
+                             @Value("${bank.security.principal.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.mode = mode;
+        this.principals = Caffeine.newBuilder().
+                maximumSize(maxSize).
+                expireAfterWrite(Duration.ofSeconds(ttlSeconds)).
+                recordStats().
+                build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    public UserDetails resolve(Claims claims) {
+        if (mode == PrincipalMode.CLAIMS)
+            return fromClaims(claims);
+        long issuedAt = claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime();
+        return principals.get(new PrincipalKey(claims.getSubject(), issuedAt),
+                key -> userDetailsService.loadUserByUsername(key.username()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSecurityDataChanged(SecurityDataChangedEvent event) {
+        if (event.getUsername() == null)
+            principals.invalidateAll();
+        else
+            principals.asMap().keySet().removeIf(key -> key.username().equals(event.getUsername()));
+    }
+
+    private UserDetails fromClaims(Claims claims) {
+        List<RoleVo> roles = new ArrayList<>();
+        Object authorities = claims.get("roles");
+        if (authorities instanceof List<?> list) {
+            for (Object authority : list) {
+                roles.add(RoleVo.builder().authority(String.valueOf(authority)).build());
+            }
+        }
+        return UserVo.builder().
+                username(claims.getSubject()).
+                roles(roles).
+                enabled(true).
+                accountNonExpired(true).
+                accountNonLocked(true).
+                credentialsNonExpired(true).
+                build();
+    }
+
+    private record PrincipalKey(String username, long issuedAt) {
+    }
+}
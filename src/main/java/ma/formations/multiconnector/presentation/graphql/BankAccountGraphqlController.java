@@ -1,10 +1,12 @@
 package ma.formations.multiconnector.presentation.graphql;
 
+import graphql.relay.Connection;
 import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
 import ma.formations.multiconnector.service.IBankAccountService;
+import org.springframework.data.domain.Sort;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
@@ -22,6 +24,12 @@ public class BankAccountGraphqlController {
         return bankAccountService.getAllBankAccounts();
     }
 
+    @QueryMapping
+    Connection<BankAccountDto> bankAccountsPage(@Argument Integer first, @Argument String after,
+                                                @Argument String orderBy, @Argument Sort.Direction direction) {
+        return GraphqlConnections.of(bankAccountService.getBankAccounts(GraphqlConnections.pageable(first, after, orderBy, direction)));
+    }
+
     @QueryMapping
     BankAccountDto bankAccountByRib(@Argument String rib) {
         return bankAccountService.getBankAccountByRib(rib);
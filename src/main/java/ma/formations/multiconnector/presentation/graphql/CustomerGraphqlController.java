@@ -1,7 +1,9 @@
 package ma.formations.multiconnector.presentation.graphql;
 
+import graphql.relay.Connection;
 import ma.formations.multiconnector.dtos.customer.*;
 import ma.formations.multiconnector.service.ICustomerService;
+import org.springframework.data.domain.Sort;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
@@ -23,6 +25,12 @@ public class CustomerGraphqlController {
         return customerService.getAllCustomers();
     }
 
+    @QueryMapping
+    Connection<CustomerDto> customersPage(@Argument Integer first, @Argument String after,
+                                          @Argument String orderBy, @Argument Sort.Direction direction) {
+        return GraphqlConnections.of(customerService.getCustomers(GraphqlConnections.pageable(first, after, orderBy, direction)));
+    }
+
     @QueryMapping
     CustomerDto customerByIdentity(@Argument String identity) {
         return customerService.getCustomByIdentity(identity);
@@ -0,0 +1,46 @@
+package ma.formations.multiconnector.presentation.graphql;
+
+import graphql.relay.Connection;
+import graphql.relay.DefaultConnection;
+import graphql.relay.DefaultConnectionCursor;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
+import ma.formations.multiconnector.common.OffsetPageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connexions Relay (first/after) au-dessus des Slice du service :
+ * le curseur d'un élément est sa position dans la liste triée.
+ */
+final class GraphqlConnections {
+
+    private GraphqlConnections() {
+    }
+
+    static Pageable pageable(Integer first, String after, String orderBy, Sort.Direction direction) {
+        long offset = after == null || after.isEmpty() ? 0 : OffsetPageRequest.offsetOf(after) + 1;
+        int size = first == null ? OffsetPageRequest.DEFAULT_PAGE_SIZE : first;
+        Sort sort = orderBy == null || orderBy.isEmpty() ? Sort.unsorted() :
+                Sort.by(direction == null ? Sort.Direction.ASC : direction, orderBy);
+        return new OffsetPageRequest(offset, size, sort);
+    }
+
+    static <T> Connection<T> of(Slice<T> slice) {
+        long offset = slice.getPageable().getOffset();
+        List<Edge<T>> edges = new ArrayList<>(slice.getNumberOfElements());
+        for (T node : slice.getContent()) {
+            edges.add(new DefaultEdge<>(node, new DefaultConnectionCursor(OffsetPageRequest.token(offset + edges.size()))));
+        }
+        return new DefaultConnection<>(edges, new DefaultPageInfo(
+                edges.isEmpty() ? null : edges.get(0).getCursor(),
+                edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor(),
+                slice.hasPrevious(),
+                slice.hasNext()));
+    }
+}
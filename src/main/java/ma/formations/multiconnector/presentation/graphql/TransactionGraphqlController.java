@@ -2,10 +2,7 @@ package ma.formations.multiconnector.presentation.graphql;
 
 import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.common.CommonTools;
-import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
-import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
-import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
-import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.*;
 import ma.formations.multiconnector.service.ITransactionService;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
@@ -27,8 +24,18 @@ public class TransactionGraphqlController {
         return transactionService.wiredTransfer(dto);
     }
 
+    @MutationMapping
+    public AddWirerTransferBatchResponse addWirerTransfers(@Argument("dto") AddWirerTransferBatchRequest dto) {
+        return transactionService.wiredTransferBatch(dto);
+    }
+
     @QueryMapping
     public List<TransactionDto> getTransactions(@Argument GetTransactionListRequest dto) {
         return transactionService.getTransactions(dto);
     }
+
+    @QueryMapping
+    public TransactionPageDto getTransactionPage(@Argument GetTransactionPageRequest dto) {
+        return transactionService.getTransactionPage(dto);
+    }
 }
@@ -1,22 +1,23 @@
 package ma.formations.multiconnector.presentation.grpc;
 
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.OffsetPageRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
 import ma.formations.multiconnector.dtos.customer.*;
-import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
-import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
-import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
-import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.*;
 import ma.formations.multiconnector.grpc.stub.Bank;
 import ma.formations.multiconnector.grpc.stub.BankServiceGrpc;
 import ma.formations.multiconnector.service.IBankAccountService;
 import ma.formations.multiconnector.service.ICustomerService;
 import ma.formations.multiconnector.service.ITransactionService;
 import net.devh.boot.grpc.server.service.GrpcService;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -28,19 +29,28 @@ import java.util.stream.Collectors;
 public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
     private ICustomerService customerService;
     private IBankAccountService bankAccountService;
-    private ModelMapper modelMapper;
+    private GrpcMapper grpcMapper;
     private ITransactionService transactionService;
+    private WirerTransferStreamHandler wirerTransferStreamHandler;
+    private GrpcPageStreamer grpcPageStreamer;
 
     @Override
     public void customers(Bank.CustomersRequest request, StreamObserver<Bank.CustomersResponse> responseObserver) {
-        List<CustomerDto> customers = customerService.getAllCustomers();
-        Bank.CustomersResponse response = Bank.CustomersResponse.newBuilder().
-                addAllCustomers(
-                        customers.stream().map(customerDto ->
-                                        modelMapper.map(customerDto, Bank.CustomerDTO.Builder.class).build()).
-                                collect(Collectors.toList())).
-                build();
-        responseObserver.onNext(response);
+        Bank.CustomersResponse.Builder response = Bank.CustomersResponse.newBuilder();
+        List<CustomerDto> customers;
+        if (request.getPageSize() > 0) {
+            Slice<CustomerDto> page = customerService.getCustomers(
+                    pageable(request.getPageSize(), request.getPageToken(), request.getOrderBy(), request.getDescending()));
+            customers = page.getContent();
+            response.setNextPageToken(nextPageToken(page));
+        } else {
+            customers = customerService.getAllCustomers();
+        }
+        response.addAllCustomers(
+                customers.stream().map(customerDto ->
+                                grpcMapper.toProto(customerDto)).
+                        collect(Collectors.toList()));
+        responseObserver.onNext(response.build());
         responseObserver.onCompleted();
     }
 
@@ -48,7 +58,7 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
     public void customerByIdentity(Bank.CustomerByIdentityRequest request, StreamObserver<Bank.CustomerByIdentityResponse> responseObserver) {
         CustomerDto customerDto = customerService.getCustomByIdentity(request.getIdentityRef());
         Bank.CustomerByIdentityResponse response = Bank.CustomerByIdentityResponse.newBuilder().
-                setCustomer(modelMapper.map(customerDto, Bank.CustomerDTO.Builder.class).build()).
+                setCustomer(grpcMapper.toProto(customerDto)).
                 build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
@@ -56,10 +66,10 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
 
     @Override
     public void createCustomer(Bank.CreateCustomerRequest request, StreamObserver<Bank.CreateCustomerResponse> responseObserver) {
-        AddCustomerResponse addCustomerResponse = customerService.createCustomer(modelMapper.map(request, AddCustomerRequest.class));
+        AddCustomerResponse addCustomerResponse = customerService.createCustomer(grpcMapper.toDto(request));
         Bank.CreateCustomerResponse response = Bank.CreateCustomerResponse.newBuilder().
                 setMessage(addCustomerResponse.getMessage()).
-                setCustomer(modelMapper.map(addCustomerResponse, Bank.CustomerDTO.Builder.class).build()).
+                setCustomer(grpcMapper.toProto(addCustomerResponse)).
                 build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
@@ -69,10 +79,10 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
     public void updateCustomer(Bank.UpdateCustomerRequest request, StreamObserver<Bank.UpdateCustomerResponse> responseObserver) {
 
         UpdateCustomerResponse updateCustomerResponse = customerService.updateCustomer(
-                request.getIdentityRef(), modelMapper.map(request.getUpdatedCustomer(), UpdateCustomerRequest.class));
+                request.getIdentityRef(), grpcMapper.toDto(request.getUpdatedCustomer()));
         Bank.UpdateCustomerResponse response = Bank.UpdateCustomerResponse.newBuilder().
                 setMessage(updateCustomerResponse.getMessage()).
-                setCustomer(modelMapper.map(updateCustomerResponse, Bank.CustomerDTO.Builder.class).build()).
+                setCustomer(grpcMapper.toProto(updateCustomerResponse)).
                 build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
@@ -91,23 +101,63 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
 
     @Override
     public void bankAccounts(Bank.BankAccountsRequest request, StreamObserver<Bank.BankAccountsResponse> responseObserver) {
-        List<BankAccountDto> bankAccounts = bankAccountService.getAllBankAccounts();
-        Bank.BankAccountsResponse response = Bank.BankAccountsResponse.newBuilder().
-                addAllBankAccount(
-                        bankAccounts.stream().
-                                map(bankAccount -> modelMapper.map(bankAccount, Bank.BankAccountDto.Builder.class).build()).
-                                collect(Collectors.toList())).
-                build();
-        responseObserver.onNext(response);
+        Bank.BankAccountsResponse.Builder response = Bank.BankAccountsResponse.newBuilder();
+        List<BankAccountDto> bankAccounts;
+        if (request.getPageSize() > 0) {
+            Slice<BankAccountDto> page = bankAccountService.getBankAccounts(
+                    pageable(request.getPageSize(), request.getPageToken(), request.getOrderBy(), request.getDescending()));
+            bankAccounts = page.getContent();
+            response.setNextPageToken(nextPageToken(page));
+        } else {
+            bankAccounts = bankAccountService.getAllBankAccounts();
+        }
+        response.addAllBankAccount(
+                bankAccounts.stream().
+                        map(bankAccount -> grpcMapper.toProto(bankAccount)).
+                        collect(Collectors.toList()));
+        responseObserver.onNext(response.build());
         responseObserver.onCompleted();
     }
 
+    private Pageable pageable(int pageSize, String pageToken, String orderBy, boolean descending) {
+        long offset = pageToken.isEmpty() ? 0 : OffsetPageRequest.offsetOf(pageToken);
+        Sort sort = orderBy.isEmpty() ? Sort.unsorted() : Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, orderBy);
+        return new OffsetPageRequest(offset, pageSize, sort);
+    }
+
+    private String nextPageToken(Slice<?> page) {
+        return page.hasNext() ? OffsetPageRequest.token(page.nextPageable().getOffset()) : "";
+    }
+
+    /**
+     * Pagination par clé sur id (la profondeur du flux ne coûte rien) : seul le tri par id est possible,
+     * croissant ou décroissant.
+     */
+    @Override
+    public void streamBankAccounts(Bank.BankAccountsRequest request, StreamObserver<Bank.BankAccountDto> responseObserver) {
+        if (!request.getOrderBy().isEmpty() && !"id".equals(request.getOrderBy())) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.
+                    withDescription(String.format("the stream can only be ordered by id, not by %s", request.getOrderBy())).
+                    asRuntimeException());
+            return;
+        }
+        grpcPageStreamer.streamByCursor(responseObserver, (cursor, size) -> {
+            Slice<BankAccountDto> page = bankAccountService.getBankAccountsAfter(
+                    cursor == null ? null : Long.valueOf(cursor), size, request.getDescending());
+            List<BankAccountDto> bankAccounts = page.getContent();
+            return new GrpcPageStreamer.Chunk<>(bankAccounts.stream().
+                    map(bankAccount -> grpcMapper.toProto(bankAccount)).
+                    collect(Collectors.toList()),
+                    page.hasNext() ? String.valueOf(bankAccounts.get(bankAccounts.size() - 1).getId()) : null);
+        });
+    }
+
     @Override
     public void bankAccountByRib(Bank.BankAccountByRibRequest request, StreamObserver<Bank.BankAccountByRibResponse> responseObserver) {
         BankAccountDto bankAccount = bankAccountService.getBankAccountByRib(request.getRib());
 
         Bank.BankAccountByRibResponse response = Bank.BankAccountByRibResponse.newBuilder().
-                setBankAccount(modelMapper.map(bankAccount, Bank.BankAccountDto.Builder.class).build()).
+                setBankAccount(grpcMapper.toProto(bankAccount)).
                 build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
@@ -116,10 +166,10 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
     @Override
     public void addBankAccount(Bank.AddBankAccountRequest request, StreamObserver<Bank.AddBankAccountResponse> responseObserver) {
         AddBankAccountResponse addBankAccountResponse = bankAccountService.saveBankAccount(
-                modelMapper.map(request, AddBankAccountRequest.class));
+                grpcMapper.toDto(request));
         Bank.AddBankAccountResponse response = Bank.AddBankAccountResponse.newBuilder().
                 setMessage(addBankAccountResponse.getMessage()).
-                setBankAccount(modelMapper.map(addBankAccountResponse, Bank.BankAccountDto.Builder.class).build()).
+                setBankAccount(grpcMapper.toProto(addBankAccountResponse)).
                 build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
@@ -127,26 +177,89 @@ public class BankGrpcController extends BankServiceGrpc.BankServiceImplBase {
 
     @Override
     public void addWirerTransfer(Bank.AddWirerTransferRequest request, StreamObserver<Bank.AddWirerTransferResponse> responseObserver) {
-        AddWirerTransferResponse addWirerTransferResponse = transactionService.wiredTransfer(modelMapper.map(request, AddWirerTransferRequest.class));
+        AddWirerTransferResponse addWirerTransferResponse = transactionService.wiredTransfer(grpcMapper.toDto(request));
         Bank.AddWirerTransferResponse response = Bank.AddWirerTransferResponse.newBuilder().
                 setMessage(addWirerTransferResponse.getMessage()).
-                setTransactionFrom(modelMapper.map(addWirerTransferResponse.getTransactionFrom(), Bank.TransactionDto.Builder.class).build()).
-                setTransactionTo(modelMapper.map(addWirerTransferResponse.getTransactionTo(), Bank.TransactionDto.Builder.class).build()).
+                setTransactionFrom(grpcMapper.toProto(addWirerTransferResponse.getTransactionFrom())).
+                setTransactionTo(grpcMapper.toProto(addWirerTransferResponse.getTransactionTo())).
+                build();
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void addWirerTransfers(Bank.AddWirerTransfersRequest request, StreamObserver<Bank.AddWirerTransfersResponse> responseObserver) {
+        AddWirerTransferBatchResponse batchResponse = transactionService.wiredTransferBatch(AddWirerTransferBatchRequest.builder().
+                transfers(request.getTransfersList().stream().
+                        map(transfer -> grpcMapper.toDto(transfer)).
+                        collect(Collectors.toList())).
+                build());
+        Bank.AddWirerTransfersResponse response = Bank.AddWirerTransfersResponse.newBuilder().
+                setSucceeded(batchResponse.getSucceeded()).
+                setFailed(batchResponse.getFailed()).
+                addAllResults(batchResponse.getResults().stream().
+                        map(result -> Bank.WirerTransferResult.newBuilder().
+                                setIndex(result.getIndex()).
+                                setSuccess(result.isSuccess()).
+                                setMessage(result.getMessage()).
+                                build()).
+                        collect(Collectors.toList())).
                 build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
     }
 
+    @Override
+    public StreamObserver<Bank.AddWirerTransferRequest> streamWirerTransfers(StreamObserver<Bank.WirerTransferAck> responseObserver) {
+        return wirerTransferStreamHandler.open(responseObserver);
+    }
+
     @Override
     public void getTransactions(Bank.GetTransactionsRequest request, StreamObserver<Bank.GetTransactionsResponse> responseObserver) {
-        List<TransactionDto> transactions = transactionService.getTransactions(modelMapper.map(request, GetTransactionListRequest.class));
+        List<TransactionDto> transactions = transactionService.getTransactions(grpcMapper.toDto(request));
         Bank.GetTransactionsResponse response = Bank.GetTransactionsResponse.newBuilder().
                 addAllTransaction(transactions.stream().
-                        map(transactionDto -> modelMapper.map(transactionDto, Bank.TransactionDto.Builder.class).build()).
+                        map(transactionDto -> grpcMapper.toProto(transactionDto)).
                         collect(Collectors.toList())).
                 build();
         responseObserver.onNext(response);
         responseObserver.onCompleted();
 
     }
+
+    @Override
+    public void getTransactionPage(Bank.GetTransactionPageRequest request, StreamObserver<Bank.TransactionPage> responseObserver) {
+        TransactionPageDto page = transactionService.getTransactionPage(GetTransactionPageRequest.builder().
+                rib(request.getRib()).
+                dateFrom(request.getDateFrom()).
+                dateTo(request.getDateTo()).
+                cursor(request.getCursor()).
+                size(request.getSize()).
+                build());
+        Bank.TransactionPage.Builder response = Bank.TransactionPage.newBuilder().
+                addAllTransactions(page.getTransactions().stream().
+                        map(transactionDto -> grpcMapper.toProto(transactionDto)).
+                        collect(Collectors.toList())).
+                setHasNext(page.isHasNext());
+        if (page.getNextCursor() != null)
+            response.setNextCursor(page.getNextCursor());
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void streamTransactions(Bank.GetTransactionsRequest request, StreamObserver<Bank.TransactionDto> responseObserver) {
+        grpcPageStreamer.streamByCursor(responseObserver, (cursor, size) -> {
+            TransactionPageDto page = transactionService.getTransactionPage(GetTransactionPageRequest.builder().
+                    rib(request.getRib()).
+                    dateFrom(request.getDateFrom()).
+                    dateTo(request.getDateTo()).
+                    cursor(cursor).
+                    size(size).
+                    build());
+            return new GrpcPageStreamer.Chunk<>(page.getTransactions().stream().
+                    map(transactionDto -> grpcMapper.toProto(transactionDto)).
+                    collect(Collectors.toList()), page.getNextCursor());
+        });
+    }
 }
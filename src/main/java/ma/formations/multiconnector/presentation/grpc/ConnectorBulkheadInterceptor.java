@@ -0,0 +1,82 @@
+package ma.formations.multiconnector.presentation.grpc;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import ma.formations.multiconnector.common.ConnectorBulkheads;
+import ma.formations.multiconnector.enums.Connector;
+import ma.formations.multiconnector.service.exception.BulkheadFullException;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+
+/**
+ * Budget du connecteur gRPC. La place est prise le temps des callbacks où le service travaille
+ * (onMessage, onHalfClose) et non pour toute la durée d'un flux, un flux ouvert et inactif ne consomme
+ * donc rien. onReady n'en prend pas : GrpcPageStreamer prend la sienne le temps de lire chaque page suivante.
+ * Refus : RESOURCE_EXHAUSTED, le service reçoit une annulation.
+ */
+@GrpcGlobalServerInterceptor
+public class ConnectorBulkheadInterceptor implements ServerInterceptor {
+    private final ConnectorBulkheads bulkheads;
+
+    public ConnectorBulkheadInterceptor(ConnectorBulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                      ServerCallHandler<Q, R> next) {
+        return new BulkheadListener<>(call, next.startCall(call, headers));
+    }
+
+    private final class BulkheadListener<Q, R> extends ForwardingServerCallListener.SimpleForwardingServerCallListener<Q> {
+        private final ServerCall<Q, R> call;
+        private boolean rejected;
+
+        private BulkheadListener(ServerCall<Q, R> call, ServerCall.Listener<Q> delegate) {
+            super(delegate);
+            this.call = call;
+        }
+
+        @Override
+        public void onMessage(Q message) {
+            withinBudget(() -> super.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            withinBudget(super::onHalfClose);
+        }
+
+        @Override
+        public void onCancel() {
+            if (!rejected)
+                super.onCancel();
+        }
+
+        @Override
+        public void onComplete() {
+            if (!rejected)
+                super.onComplete();
+        }
+
+        private void withinBudget(Runnable callback) {
+            if (rejected)
+                return;
+            ConnectorBulkheads.Permit permit;
+            try {
+                permit = bulkheads.enter(Connector.GRPC);
+            } catch (BulkheadFullException e) {
+                rejected = true;
+                call.close(Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage()), new Metadata());
+                super.onCancel();
+                return;
+            }
+            try (permit) {
+                callback.run();
+            }
+        }
+    }
+}
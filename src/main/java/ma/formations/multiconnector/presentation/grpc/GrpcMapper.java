@@ -0,0 +1,156 @@
+package ma.formations.multiconnector.presentation.grpc;
+
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.customer.AddCustomerRequest;
+import ma.formations.multiconnector.dtos.customer.AddCustomerResponse;
+import ma.formations.multiconnector.dtos.customer.CustomerDto;
+import ma.formations.multiconnector.dtos.customer.UpdateCustomerRequest;
+import ma.formations.multiconnector.dtos.customer.UpdateCustomerResponse;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.user.UserDto;
+import ma.formations.multiconnector.grpc.stub.Bank;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversions DTO <-> messages protobuf écrites à la main : les builders protobuf n'acceptent pas null,
+ * les champs nuls sont donc laissés à leur valeur par défaut.
+ */
+@Component
+public class GrpcMapper {
+
+    public Bank.CustomerDTO toProto(CustomerDto dto) {
+        return customer(dto.getId(), dto.getUsername(), dto.getIdentityRef(), dto.getFirstname(), dto.getLastname());
+    }
+
+    public Bank.CustomerDTO toProto(AddCustomerResponse dto) {
+        return customer(dto.getId(), dto.getUsername(), dto.getIdentityRef(), dto.getFirstname(), dto.getLastname());
+    }
+
+    public Bank.CustomerDTO toProto(UpdateCustomerResponse dto) {
+        return customer(dto.getId(), dto.getUsername(), dto.getIdentityRef(), dto.getFirstname(), dto.getLastname());
+    }
+
+    private Bank.CustomerDTO customer(Long id, String username, String identityRef, String firstname, String lastname) {
+        Bank.CustomerDTO.Builder builder = Bank.CustomerDTO.newBuilder();
+        if (id != null)
+            builder.setId(id);
+        if (username != null)
+            builder.setUsername(username);
+        if (identityRef != null)
+            builder.setIdentityRef(identityRef);
+        if (firstname != null)
+            builder.setFirstname(firstname);
+        if (lastname != null)
+            builder.setLastname(lastname);
+        return builder.build();
+    }
+
+    public Bank.BankAccountDto toProto(BankAccountDto dto) {
+        Bank.BankAccountDto.Builder builder = Bank.BankAccountDto.newBuilder();
+        if (dto.getId() != null)
+            builder.setId(dto.getId());
+        if (dto.getRib() != null)
+            builder.setRib(dto.getRib());
+        if (dto.getAmount() != null)
+            builder.setAmount(dto.getAmount());
+        if (dto.getCreatedAt() != null)
+            builder.setCreatedAt(dto.getCreatedAt());
+        if (dto.getAccountStatus() != null)
+            builder.setAccountStatus(dto.getAccountStatus());
+        if (dto.getCustomer() != null)
+            builder.setCustomer(toProto(dto.getCustomer()));
+        return builder.build();
+    }
+
+    public Bank.BankAccountDto toProto(AddBankAccountResponse dto) {
+        Bank.BankAccountDto.Builder builder = Bank.BankAccountDto.newBuilder();
+        if (dto.getId() != null)
+            builder.setId(dto.getId());
+        if (dto.getRib() != null)
+            builder.setRib(dto.getRib());
+        if (dto.getAmount() != null)
+            builder.setAmount(dto.getAmount());
+        if (dto.getCreatedAt() != null)
+            builder.setCreatedAt(dto.getCreatedAt());
+        if (dto.getAccountStatus() != null)
+            builder.setAccountStatus(dto.getAccountStatus().name());
+        if (dto.getCustomer() != null)
+            builder.setCustomer(toProto(dto.getCustomer()));
+        return builder.build();
+    }
+
+    public Bank.TransactionDto toProto(TransactionDto dto) {
+        Bank.TransactionDto.Builder builder = Bank.TransactionDto.newBuilder();
+        if (dto.getCreatedAt() != null)
+            builder.setCreatedAt(dto.getCreatedAt());
+        if (dto.getTransactionType() != null)
+            builder.setTransactionType(dto.getTransactionType());
+        if (dto.getAmount() != null)
+            builder.setAmount(dto.getAmount());
+        if (dto.getBankAccount() != null)
+            builder.setBankAccount(toProto(dto.getBankAccount()));
+        if (dto.getUser() != null)
+            builder.setUser(toProto(dto.getUser()));
+        return builder.build();
+    }
+
+    public Bank.UserDto toProto(UserDto dto) {
+        Bank.UserDto.Builder builder = Bank.UserDto.newBuilder();
+        if (dto.getUsername() != null)
+            builder.setUsername(dto.getUsername());
+        if (dto.getFirstname() != null)
+            builder.setFirstname(dto.getFirstname());
+        if (dto.getLastname() != null)
+            builder.setLastname(dto.getLastname());
+        return builder.build();
+    }
+
+    public AddCustomerRequest toDto(Bank.CreateCustomerRequest request) {
+        return AddCustomerRequest.builder().
+                username(request.getUsername()).
+                identityRef(request.getIdentityRef()).
+                firstname(request.getFirstname()).
+                lastname(request.getLastname()).
+                build();
+    }
+
+    /**
+     * Un champ protobuf absent vaut "" : il est passé à null pour que le service le laisse inchangé.
+     */
+    public UpdateCustomerRequest toDto(Bank.UpdatedCustomerDTO request) {
+        return UpdateCustomerRequest.builder().
+                username(request.getUsername().isEmpty() ? null : request.getUsername()).
+                firstname(request.getFirstname().isEmpty() ? null : request.getFirstname()).
+                lastname(request.getLastname().isEmpty() ? null : request.getLastname()).
+                build();
+    }
+
+    public AddBankAccountRequest toDto(Bank.AddBankAccountRequest request) {
+        return AddBankAccountRequest.builder().
+                rib(request.getRib()).
+                amount(request.getAmount()).
+                customerIdentityRef(request.getCustomerIdentityRef()).
+                build();
+    }
+
+    public AddWirerTransferRequest toDto(Bank.AddWirerTransferRequest request) {
+        return AddWirerTransferRequest.builder().
+                ribFrom(request.getRibFrom()).
+                ribTo(request.getRibTo()).
+                amount(request.getAmount()).
+                username(request.getUsername()).
+                build();
+    }
+
+    public GetTransactionListRequest toDto(Bank.GetTransactionsRequest request) {
+        return GetTransactionListRequest.builder().
+                rib(request.getRib()).
+                dateFrom(request.getDateFrom()).
+                dateTo(request.getDateTo()).
+                build();
+    }
+}
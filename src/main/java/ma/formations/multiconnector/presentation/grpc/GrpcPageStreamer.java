@@ -0,0 +1,114 @@
+package ma.formations.multiconnector.presentation.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ma.formations.multiconnector.common.ConnectorBulkheads;
+import ma.formations.multiconnector.enums.Connector;
+import ma.formations.multiconnector.service.exception.BulkheadFullException;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Envoie un résultat paginé sur un flux gRPC serveur, une page à la fois :
+ * la page suivante n'est lue que lorsque le client a consommé la précédente (isReady / onReadyHandler),
+ * la mémoire reste bornée par la taille de page quel que soit le volume.
+ * Chaque lecture de page prend une place du connecteur gRPC, rendue dès la page chargée : les pages lues
+ * depuis onReady, hors des callbacks où ConnectorBulkheadInterceptor la prend, restent dans le budget.
+ */
+@Component
+public class GrpcPageStreamer {
+    private final ConnectorBulkheads bulkheads;
+    private final int pageSize;
+
+    public GrpcPageStreamer(ConnectorBulkheads bulkheads,
+                            @Value("${bank.grpc.stream.page-size:500}") int pageSize) {
+        this.bulkheads = bulkheads;
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * Pagination par curseur (clé de la dernière ligne envoyée, pas d'offset) : pageLoader reçoit le curseur
+     * (null pour la première page) et la taille de page, un nextCursor null termine le flux.
+     */
+    public <T> void streamByCursor(StreamObserver<T> responseObserver, BiFunction<String, Integer, Chunk<T>> pageLoader) {
+        new Streaming<>((ServerCallStreamObserver<T>) responseObserver, pageLoader, bulkheads, pageSize).start();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Chunk<T> {
+        private final List<T> items;
+        private final String nextCursor;
+    }
+
+    /**
+     * Les callbacks d'un même appel gRPC sont sérialisés : drain() n'est jamais exécuté en parallèle pour un flux.
+     */
+    private static final class Streaming<T> {
+        private final ServerCallStreamObserver<T> observer;
+        private final BiFunction<String, Integer, Chunk<T>> pageLoader;
+        private final ConnectorBulkheads bulkheads;
+        private final int pageSize;
+        private String cursor;
+        private boolean lastPage;
+        private Iterator<T> current = Collections.emptyIterator();
+        private boolean done;
+
+        private Streaming(ServerCallStreamObserver<T> observer, BiFunction<String, Integer, Chunk<T>> pageLoader,
+                          ConnectorBulkheads bulkheads, int pageSize) {
+            this.observer = observer;
+            this.pageLoader = pageLoader;
+            this.bulkheads = bulkheads;
+            this.pageSize = pageSize;
+        }
+
+        private void start() {
+            observer.setOnCancelHandler(() -> done = true);
+            observer.setOnReadyHandler(this::drain);
+            drain();
+        }
+
+        private void drain() {
+            try {
+                while (!done && observer.isReady()) {
+                    if (current.hasNext()) {
+                        observer.onNext(current.next());
+                    } else if (lastPage) {
+                        done = true;
+                        observer.onCompleted();
+                    } else {
+                        loadNextPage();
+                    }
+                }
+            } catch (BulkheadFullException e) {
+                done = true;
+                observer.onError(Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage()).asRuntimeException());
+            } catch (BusinessException e) {
+                done = true;
+                observer.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            } catch (RuntimeException e) {
+                done = true;
+                observer.onError(Status.INTERNAL.withCause(e).asRuntimeException());
+            }
+        }
+
+        // Place réentrante : la première page, lue dans onHalfClose, garde celle de l'intercepteur
+        private void loadNextPage() {
+            try (ConnectorBulkheads.Permit permit = bulkheads.enter(Connector.GRPC)) {
+                Chunk<T> chunk = pageLoader.apply(cursor, pageSize);
+                current = chunk.getItems().iterator();
+                cursor = chunk.getNextCursor();
+                lastPage = cursor == null;
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ma.formations.multiconnector.presentation.grpc;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.jsonwebtoken.Claims;
+import ma.formations.multiconnector.jwt.JwtUtils;
+import ma.formations.multiconnector.jwt.PrincipalResolver;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Set;
+
+/**
+ * Authentification des appels gRPC par le jeton "authorization: Bearer ..." des métadonnées.
+ * Le jeton est vérifié via le cache partagé avec AuthTokenFilter (JwtUtils.getValidClaims) et le
+ * principal vient de PrincipalResolver : pas d'accès base par appel. L'Authentication est
+ * disponible pour le service dans Context via AUTHENTICATION.
+ * Les services de santé et de réflexion restent ouverts.
+ */
+@GrpcGlobalServerInterceptor
+public class JwtServerInterceptor implements ServerInterceptor {
+    public static final Context.Key<Authentication> AUTHENTICATION = Context.key("authentication");
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final String BEARER = "Bearer ";
+    private static final Set<String> PUBLIC_SERVICES = Set.of(
+            "grpc.health.v1.Health",
+            "grpc.reflection.v1alpha.ServerReflection",
+            "grpc.reflection.v1.ServerReflection");
+
+    private final JwtUtils jwtUtils;
+    private final PrincipalResolver principalResolver;
+    private final boolean enabled;
+
+    public JwtServerInterceptor(JwtUtils jwtUtils, PrincipalResolver principalResolver,
+                                @Value("${bank.grpc.security.enabled:true}") boolean enabled) {
+        this.jwtUtils = jwtUtils;
+        this.principalResolver = principalResolver;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                      ServerCallHandler<Q, R> next) {
+        if (!enabled || PUBLIC_SERVICES.contains(call.getMethodDescriptor().getServiceName()))
+            return next.startCall(call, headers);
+
+        String header = headers.get(AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER))
+            return reject(call, "a bearer token is required");
+        Claims claims = jwtUtils.getValidClaims(header.substring(BEARER.length()));
+        if (claims == null)
+            return reject(call, "the bearer token is not valid");
+
+        Authentication authentication;
+        try {
+            UserDetails userDetails = principalResolver.resolve(claims);
+            authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (RuntimeException e) {
+            return reject(call, "the user of the bearer token is unknown");
+        }
+        Context context = Context.current().withValue(AUTHENTICATION, authentication);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    private static <Q, R> ServerCall.Listener<Q> reject(ServerCall<Q, R> call, String description) {
+        call.close(Status.UNAUTHENTICATED.withDescription(description), new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+}
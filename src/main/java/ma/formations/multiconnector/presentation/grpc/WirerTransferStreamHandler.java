@@ -0,0 +1,193 @@
+package ma.formations.multiconnector.presentation.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.annotation.PreDestroy;
+import ma.formations.multiconnector.common.ConnectorBulkheads;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.WirerTransferResult;
+import ma.formations.multiconnector.enums.Connector;
+import ma.formations.multiconnector.grpc.stub.Bank;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.exception.BulkheadFullException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingestion des virements reçus en flux gRPC : les virements sont regroupés en micro-lots
+ * (taille max ou délai max) passés à ITransactionService.wiredTransferBatch, et chaque virement
+ * est acquitté sur le flux de réponse avec sa position dans le flux d'entrée.
+ * Contrôle de flux manuel : le message suivant n'est demandé que si le flux de réponse est prêt,
+ * un client qui lit lentement ses acquittements ralentit ses envois au lieu de les faire s'accumuler.
+ */
+@Component
+public class WirerTransferStreamHandler {
+    private final ITransactionService transactionService;
+    private final GrpcMapper grpcMapper;
+    private final ConnectorBulkheads bulkheads;
+    private final int batchSize;
+    private final long flushDelayMs;
+    private final ScheduledExecutorService flushScheduler;
+
+    public WirerTransferStreamHandler(ITransactionService transactionService, GrpcMapper grpcMapper,
+                                      ConnectorBulkheads bulkheads,
+                                      @Value("${bank.grpc.transfer-stream.batch-size:200}") int batchSize,
+                                      @Value("${bank.grpc.transfer-stream.flush-ms:20}") long flushDelayMs,
+                                      @Value("${bank.grpc.transfer-stream.flush-threads:2}") int flushThreads) {
+        this.transactionService = transactionService;
+        this.grpcMapper = grpcMapper;
+        this.bulkheads = bulkheads;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushDelayMs = flushDelayMs;
+        this.flushScheduler = Executors.newScheduledThreadPool(Math.max(1, flushThreads), runnable -> {
+            Thread thread = new Thread(runnable, "grpc-transfer-stream-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public StreamObserver<Bank.AddWirerTransferRequest> open(StreamObserver<Bank.WirerTransferAck> responseObserver) {
+        return new Session(responseObserver);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdownNow();
+    }
+
+    /**
+     * Un flux client. Les callbacks gRPC et le flush temporisé sont sérialisés par le moniteur de la session ;
+     * le traitement d'un lot dans onNext retarde la lecture des messages suivants.
+     */
+    private final class Session implements StreamObserver<Bank.AddWirerTransferRequest> {
+        private final StreamObserver<Bank.WirerTransferAck> responseObserver;
+        // null hors d'un appel gRPC (pas de contrôle de flux)
+        private final ServerCallStreamObserver<Bank.WirerTransferAck> callObserver;
+        private final List<AddWirerTransferRequest> pending = new ArrayList<>();
+        private long flushed;
+        private ScheduledFuture<?> scheduledFlush;
+        private boolean closed;
+        private boolean requested;
+
+        private Session(StreamObserver<Bank.WirerTransferAck> responseObserver) {
+            this.responseObserver = responseObserver;
+            this.callObserver = responseObserver instanceof ServerCallStreamObserver<Bank.WirerTransferAck> observer ?
+                    observer : null;
+            if (callObserver != null) {
+                callObserver.disableAutoRequest();
+                callObserver.setOnReadyHandler(this::onReady);
+            }
+        }
+
+        @Override
+        public synchronized void onNext(Bank.AddWirerTransferRequest request) {
+            requested = false;
+            if (closed)
+                return;
+            pending.add(grpcMapper.toDto(request));
+            if (pending.size() >= batchSize)
+                flush();
+            else if (scheduledFlush == null)
+                scheduledFlush = flushScheduler.schedule(this::flushOnTimer, flushDelayMs, TimeUnit.MILLISECONDS);
+            requestNext();
+        }
+
+        private synchronized void onReady() {
+            requestNext();
+        }
+
+        // Un seul message demandé à la fois, et seulement quand les acquittements peuvent partir
+        private void requestNext() {
+            if (callObserver != null && !closed && !requested && callObserver.isReady()) {
+                requested = true;
+                callObserver.request(1);
+            }
+        }
+
+        @Override
+        public synchronized void onError(Throwable throwable) {
+            // Le client a abandonné le flux : les virements pas encore traités ne sont pas appliqués
+            closed = true;
+            cancelScheduledFlush();
+            pending.clear();
+        }
+
+        @Override
+        public synchronized void onCompleted() {
+            if (closed)
+                return;
+            flush();
+            if (!closed) {
+                closed = true;
+                responseObserver.onCompleted();
+            }
+        }
+
+        // Le flush temporisé tourne hors des callbacks gRPC : il prend lui-même une place du connecteur,
+        // avant le moniteur de la session, qu'un onNext détenant déjà une place peut attendre
+        private void flushOnTimer() {
+            ConnectorBulkheads.Permit permit;
+            try {
+                permit = bulkheads.enter(Connector.GRPC);
+            } catch (BulkheadFullException e) {
+                synchronized (this) {
+                    scheduledFlush = null;
+                    if (!closed) {
+                        closed = true;
+                        pending.clear();
+                        responseObserver.onError(Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage()).asRuntimeException());
+                    }
+                }
+                return;
+            }
+            try (permit) {
+                synchronized (this) {
+                    scheduledFlush = null;
+                    if (!closed)
+                        flush();
+                }
+            }
+        }
+
+        private void flush() {
+            cancelScheduledFlush();
+            if (pending.isEmpty())
+                return;
+            List<AddWirerTransferRequest> batch = new ArrayList<>(pending);
+            pending.clear();
+            long firstSequence = flushed;
+            flushed += batch.size();
+            // Appelé sous le moniteur de la session, avec une place gRPC déjà prise (callback ou flushOnTimer)
+            try {
+                AddWirerTransferBatchResponse response = transactionService.wiredTransferBatch(
+                        AddWirerTransferBatchRequest.builder().transfers(batch).build());
+                for (WirerTransferResult result : response.getResults())
+                    responseObserver.onNext(Bank.WirerTransferAck.newBuilder().
+                            setSequence(firstSequence + result.getIndex()).
+                            setSuccess(result.isSuccess()).
+                            setMessage(result.getMessage()).
+                            build());
+            } catch (RuntimeException e) {
+                closed = true;
+                responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());
+            }
+        }
+
+        private void cancelScheduledFlush() {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+        }
+    }
+}
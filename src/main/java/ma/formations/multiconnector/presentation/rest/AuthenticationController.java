@@ -1,5 +1,7 @@
 package ma.formations.multiconnector.presentation.rest;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.dtos.TokenVo;
 import ma.formations.multiconnector.dtos.user.CreateUserRequest;
@@ -31,9 +33,12 @@ public class AuthenticationController {
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
     private IUserService userService;
+    private MeterRegistry meterRegistry;
 
     @PostMapping("/signin")
     public ResponseEntity<TokenVo> authenticateUser(@RequestBody UserRequest userRequest) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
             Authentication authentication = authenticationManager
                     .authenticate(new UsernamePasswordAuthenticationToken(
@@ -52,9 +57,20 @@ public class AuthenticationController {
                             .collect(Collectors.toList()))
                     .build();
 
+            outcome = "success";
             return ResponseEntity.ok(tokenVo);
+        } catch (BusinessException e) {
+            // Hachage saturé : on ne le confond pas avec un mauvais mot de passe
+            outcome = "rejected";
+            throw e;
         } catch (Exception e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                outcome = "rejected";
+                throw businessException;
+            }
             throw new BusinessException("Login ou mot de passe incorrect");
+        } finally {
+            sample.stop(meterRegistry.timer("bank.auth.login", "outcome", outcome));
         }
     }
 
@@ -5,6 +5,8 @@ import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
 import ma.formations.multiconnector.service.IBankAccountService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -28,6 +30,13 @@ public class BankAccountRestController {
         return bankAccountService.getAllBankAccounts();
     }
 
+    // ?page=0&size=50&sort=rib,desc
+    @GetMapping("/page")
+    @PreAuthorize("hasAuthority('GET_ALL_BANK_ACCOUNT')")
+    Slice<BankAccountDto> bankAccountsPage(Pageable pageable) {
+        return bankAccountService.getBankAccounts(pageable);
+    }
+
     @GetMapping
     @PreAuthorize("hasAuthority('GET_BANK_ACCOUNT_BY_RIB')")
     BankAccountDto bankAccountByRib(@RequestParam(value = "rib") String rib) {
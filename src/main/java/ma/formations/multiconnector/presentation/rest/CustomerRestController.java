@@ -3,6 +3,8 @@ package ma.formations.multiconnector.presentation.rest;
 import jakarta.validation.Valid;
 import ma.formations.multiconnector.dtos.customer.*;
 import ma.formations.multiconnector.service.ICustomerService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -26,6 +28,13 @@ public class CustomerRestController {
         return customerService.getAllCustomers();
     }
 
+    // ?page=0&size=50&sort=lastname,asc
+    @GetMapping("/agent_guichet/page")
+    @PreAuthorize("hasAuthority('GET_ALL_CUSTUMERS')")
+    Slice<CustomerDto> customersPage(Pageable pageable) {
+        return customerService.getCustomers(pageable);
+    }
+
     @GetMapping("/identity/{identity}")
     @PreAuthorize("hasAuthority('GET_CUSTOMER_BY_IDENTITY')")
     CustomerDto customerByIdentity(@PathVariable(value = "identity") String identity) {
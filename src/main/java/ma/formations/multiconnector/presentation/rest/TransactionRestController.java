@@ -3,10 +3,7 @@ package ma.formations.multiconnector.presentation.rest;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.common.CommonTools;
-import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
-import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
-import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
-import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.*;
 import ma.formations.multiconnector.service.ITransactionService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,9 +27,21 @@ public class TransactionRestController {
         return new ResponseEntity<>(transactionService.wiredTransfer(dto), HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAuthority('ADD_WIRED_TRANSFER')")
+    public ResponseEntity<AddWirerTransferBatchResponse> addWirerTransfers(@RequestBody AddWirerTransferBatchRequest dto) {
+        return new ResponseEntity<>(transactionService.wiredTransferBatch(dto), HttpStatus.OK);
+    }
+
     @GetMapping
     @PreAuthorize("hasAuthority('GET_TRANSACTIONS')")
     public List<TransactionDto> getTransactions(GetTransactionListRequest dto) {
         return transactionService.getTransactions(dto);
     }
+
+    @GetMapping("/history")
+    @PreAuthorize("hasAuthority('GET_TRANSACTIONS')")
+    public TransactionPageDto getTransactionPage(GetTransactionPageRequest dto) {
+        return transactionService.getTransactionPage(dto);
+    }
 }
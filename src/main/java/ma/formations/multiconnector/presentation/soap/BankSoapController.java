@@ -6,17 +6,16 @@ import jakarta.jws.WebResult;
 import jakarta.jws.WebService;
 import lombok.AllArgsConstructor;
 import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.common.OffsetPageRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
 import ma.formations.multiconnector.dtos.customer.*;
-import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
-import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
-import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
-import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.*;
 import ma.formations.multiconnector.service.IBankAccountService;
 import ma.formations.multiconnector.service.ICustomerService;
 import ma.formations.multiconnector.service.ITransactionService;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -45,6 +44,16 @@ public class BankSoapController {
         return customerService.getAllCustomers();
     }
 
+    /**
+     * At most limit customers (500 max) starting at offset, ordered by id.
+     * Fewer than limit customers means the last page was reached.
+     */
+    @WebResult(name = "Customer")
+    @WebMethod
+    public List<CustomerDto> customersPage(@WebParam(name = "offset") long offset, @WebParam(name = "limit") int limit) {
+        return customerService.getCustomers(new OffsetPageRequest(offset, limit, Sort.unsorted())).getContent();
+    }
+
 
     @WebMethod
     /**
@@ -76,6 +85,16 @@ public class BankSoapController {
         return bankAccountService.getAllBankAccounts();
     }
 
+    /**
+     * At most limit bank accounts (500 max) starting at offset, ordered by id.
+     * Fewer than limit bank accounts means the last page was reached.
+     */
+    @WebResult(name = "BankAccount")
+    @WebMethod
+    public List<BankAccountDto> bankAccountsPage(@WebParam(name = "offset") long offset, @WebParam(name = "limit") int limit) {
+        return bankAccountService.getBankAccounts(new OffsetPageRequest(offset, limit, Sort.unsorted())).getContent();
+    }
+
     @WebMethod
     /**
      * @WebResult was user in order to replace return balise
@@ -107,6 +126,16 @@ public class BankSoapController {
         return transactionService.wiredTransfer(dto);
     }
 
+    /**
+     * @WebResult was user in order to replace return balise
+     * by TransferBatch balise in SOAP Response.
+     */
+    @WebResult(name = "TransferBatch")
+    @WebMethod
+    public AddWirerTransferBatchResponse createWirerTransfers(@WebParam(name = "wirerTransferBatchRequest") AddWirerTransferBatchRequest dto) {
+        return transactionService.wiredTransferBatch(dto);
+    }
+
     /**
      * @WebResult was user in order to replace return balise
      * by Transaction balise in SOAP Response.
@@ -117,6 +146,17 @@ public class BankSoapController {
         return transactionService.getTransactions(dto);
     }
 
+    /**
+     * @WebResult was user in order to replace return balise
+     * by TransactionPage balise in SOAP Response.
+     * Pass back nextCursor as cursor to fetch the following page.
+     */
+    @WebResult(name = "TransactionPage")
+    @WebMethod
+    public TransactionPageDto getTransactionPage(@WebParam(name = "dto") GetTransactionPageRequest dto) {
+        return transactionService.getTransactionPage(dto);
+    }
+
     @WebResult(name = "Customer")
     @WebMethod
     public UpdateCustomerResponse changeCustomer(@WebParam(name = "identityRef") String identityRef, @WebParam(name = "dto") UpdateCustomerRequest dto) {
@@ -0,0 +1,77 @@
+package ma.formations.multiconnector.service;
+
+import ma.formations.multiconnector.dao.RoleRepository;
+import ma.formations.multiconnector.dtos.user.RoleVo;
+import ma.formations.multiconnector.service.event.SecurityDataChangedEvent;
+import ma.formations.multiconnector.service.model.Role;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table immuable rôle -> autorités (le rôle suivi de ses permissions), chargée une fois l'application prête
+ * (après les CommandLineRunner d'initialisation) et remplacée en bloc après le commit d'un save(RoleVo)
+ * ou save(PermissionVo). Les lectures ne prennent aucun verrou : elles lisent la dernière table publiée.
+ */
+@Component
+public class AuthorityExpansionTable {
+    private final RoleRepository roleRepository;
+    private final TransactionTemplate reloadTransaction;
+    private volatile Map<String, List<RoleVo>> expansions = Map.of();
+
+    public AuthorityExpansionTable(RoleRepository roleRepository, PlatformTransactionManager transactionManager) {
+        this.roleRepository = roleRepository;
+        // Transaction propre, même appelé après le commit d'une autre (REQUIRES_NEW), et pas readOnly :
+        // la table est relue sur le principal, une réplique peut ne pas avoir encore reçu ce commit
+        this.reloadTransaction = new TransactionTemplate(transactionManager);
+        this.reloadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        expansions = reloadTransaction.execute(status -> {
+            Map<String, List<RoleVo>> table = new HashMap<>();
+            roleRepository.findAll().forEach(role -> table.put(role.getAuthority(), List.copyOf(expandFromEntity(role))));
+            return Map.copyOf(table);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSecurityDataChanged(SecurityDataChangedEvent event) {
+        if (event.getUsername() == null)
+            load();
+    }
+
+    /**
+     * Autorités des rôles donnés ; un rôle absent de la table (créé entre deux rechargements)
+     * est développé depuis l'entité, ce qui suppose d'être appelé dans une transaction.
+     */
+    public List<RoleVo> expand(Collection<Role> roles) {
+        Map<String, List<RoleVo>> current = expansions;
+        List<RoleVo> authorities = new ArrayList<>();
+        for (Role role : roles) {
+            List<RoleVo> expansion = current.get(role.getAuthority());
+            authorities.addAll(expansion != null ? expansion : expandFromEntity(role));
+        }
+        return authorities;
+    }
+
+    private static List<RoleVo> expandFromEntity(Role role) {
+        List<RoleVo> authorities = new ArrayList<>();
+        authorities.add(RoleVo.builder().authority(role.getAuthority()).build());
+        if (role.getAuthorities() != null)
+            role.getAuthorities().forEach(permission ->
+                    authorities.add(RoleVo.builder().authority(permission.getAuthority()).build()));
+        return authorities;
+    }
+}
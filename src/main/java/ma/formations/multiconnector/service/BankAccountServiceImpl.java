@@ -2,6 +2,8 @@ package ma.formations.multiconnector.service;
 
 
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.OffsetPageRequest;
+import ma.formations.multiconnector.config.CacheConfig;
 import ma.formations.multiconnector.dao.BankAccountRepository;
 import ma.formations.multiconnector.dao.CustomerRepository;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
@@ -9,48 +11,88 @@ import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
 import ma.formations.multiconnector.enums.AccountStatus;
 import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.mapper.DtoMapper;
 import ma.formations.multiconnector.service.model.BankAccount;
 import ma.formations.multiconnector.service.model.Customer;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @AllArgsConstructor
 public class BankAccountServiceImpl implements IBankAccountService {
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "rib", "amount", "createdAt", "accountStatus");
     private final BankAccountRepository bankAccountRepository;
     private final CustomerRepository customerRepository;
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper;
+    private LookupCaches lookupCaches;
 
 
     @Override
     public AddBankAccountResponse saveBankAccount(AddBankAccountRequest dto) {
-        BankAccount bankAccount = modelMapper.map(dto, BankAccount.class);
+        BankAccount bankAccount = dtoMapper.toBankAccount(dto);
         Customer customerP = customerRepository.findByIdentityRef(dto.getCustomerIdentityRef()).orElseThrow(
                 () -> new BusinessException(String.format("No customer with the identity: %s exist", dto.getCustomerIdentityRef())));
+        if (bankAccountRepository.existsByRib(dto.getRib()))
+            throw new BusinessException(String.format("The RIB number [%s] is already used", dto.getRib()));
         bankAccount.setAccountStatus(AccountStatus.OPENED);
         bankAccount.setCustomer(customerP);
         bankAccount.setCreatedAt(new Date());
-        AddBankAccountResponse response = modelMapper.map(bankAccountRepository.save(bankAccount), AddBankAccountResponse.class);
+        AddBankAccountResponse response = dtoMapper.toAddBankAccountResponse(bankAccountRepository.save(bankAccount));
+        lookupCaches.evictBankAccount(dto.getRib());
         response.setMessage(String.format("RIB number [%s] for the customer [%s] has been successfully created", dto.getRib(), dto.getCustomerIdentityRef()));
         return response;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BankAccountDto> getAllBankAccounts() {
         return bankAccountRepository.findAll().stream().
-                map(bankAccount -> modelMapper.map(bankAccount, BankAccountDto.class)).
+                map(dtoMapper::toBankAccountDto).
                 collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Slice<BankAccountDto> getBankAccounts(Pageable pageable) {
+        return bankAccountRepository.findAllBy(OffsetPageRequest.bounded(pageable, SORTABLE_PROPERTIES)).
+                map(dtoMapper::toBankAccountDto);
+    }
+
+    /**
+     * Page suivant (ou précédant, en ordre décroissant) le compte afterId, null pour la première page.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<BankAccountDto> getBankAccountsAfter(Long afterId, int size, boolean descending) {
+        int pageSize = size <= 0 ? OffsetPageRequest.DEFAULT_PAGE_SIZE : Math.min(size, OffsetPageRequest.MAX_PAGE_SIZE);
+        // Une ligne de plus que la page pour savoir s'il en reste, sans requête count
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+        List<BankAccount> rows = descending ?
+                bankAccountRepository.findPageBefore(afterId == null ? Long.MAX_VALUE : afterId, limit) :
+                bankAccountRepository.findPageAfter(afterId == null ? Long.MIN_VALUE : afterId, limit);
+        boolean hasNext = rows.size() > pageSize;
+        return new SliceImpl<>((hasNext ? rows.subList(0, pageSize) : rows).stream().
+                map(dtoMapper::toBankAccountDto).
+                collect(Collectors.toList()), PageRequest.ofSize(pageSize), hasNext);
+    }
+
+    // Pas de readOnly : le cache est rempli depuis le principal, une réplique en retard y remettrait
+    // le solde d'avant le virement qui vient de l'invalider
+    @Override
+    @Cacheable(cacheNames = CacheConfig.BANK_ACCOUNTS_BY_RIB, condition = "#rib != null")
     public BankAccountDto getBankAccountByRib(String rib) {
-        return modelMapper.map(bankAccountRepository.findByRib(rib).orElseThrow(
-                () -> new BusinessException(String.format("No Bank Account with rib [%s] exist", rib))), BankAccountDto.class);
+        return dtoMapper.toBankAccountDto(bankAccountRepository.findByRib(rib).orElseThrow(
+                () -> new BusinessException(String.format("No Bank Account with rib [%s] exist", rib))));
     }
 }
@@ -1,35 +1,54 @@
 package ma.formations.multiconnector.service;
 
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.OffsetPageRequest;
+import ma.formations.multiconnector.config.CacheConfig;
 import ma.formations.multiconnector.dao.CustomerRepository;
 import ma.formations.multiconnector.dtos.customer.*;
+import ma.formations.multiconnector.service.event.SecurityDataChangedEvent;
 import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.mapper.DtoMapper;
 import ma.formations.multiconnector.service.model.Customer;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @AllArgsConstructor
 public class CustomerServiceImpl implements ICustomerService {
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "username", "identityRef", "firstname", "lastname");
 
     private final CustomerRepository customerRepository;
-    private final ModelMapper modelMapper;
+    private final DtoMapper dtoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LookupCaches lookupCaches;
 
     @Override
+    @Transactional(readOnly = true)
     public List<CustomerDto> getAllCustomers() {
         return customerRepository.findAll().stream().
-                map(customer -> modelMapper.map(customer, CustomerDto.class)).
+                map(dtoMapper::toCustomerDto).
                 collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CustomerDto> getCustomers(Pageable pageable) {
+        return customerRepository.findAllBy(OffsetPageRequest.bounded(pageable, SORTABLE_PROPERTIES)).
+                map(dtoMapper::toCustomerDto);
+    }
+
     @Override
     public AddCustomerResponse createCustomer(AddCustomerRequest addCustomerRequest) {
-        Customer bo = modelMapper.map(addCustomerRequest, Customer.class);
+        Customer bo = dtoMapper.toCustomer(addCustomerRequest);
         String identityRef = bo.getIdentityRef();
         String username = bo.getUsername();
 
@@ -44,7 +63,7 @@ public class CustomerServiceImpl implements ICustomerService {
                     throw new BusinessException(String.format("The username [%s] is already used", username));
                 }
         );
-        AddCustomerResponse response = modelMapper.map(customerRepository.save(bo), AddCustomerResponse.class);
+        AddCustomerResponse response = dtoMapper.toAddCustomerResponse(customerRepository.save(bo));
         response.setMessage(String.format("Customer : [identity= %s,First Name= %s, Last Name= %s, username= %s] was created with success",
                 response.getIdentityRef(), response.getFirstname(), response.getLastname(), response.getUsername()));
         return response;
@@ -53,32 +72,41 @@ public class CustomerServiceImpl implements ICustomerService {
 
     @Override
     public UpdateCustomerResponse updateCustomer(String identityRef, UpdateCustomerRequest updateCustomerRequest) {
-        Customer customerToPersist = modelMapper.map(updateCustomerRequest, Customer.class);
-        Customer customerFound = customerRepository.findAll().stream().filter(bo -> bo.getIdentityRef().equals(identityRef)).findFirst().orElseThrow(
+        Customer customerFound = customerRepository.findByIdentityRef(identityRef).orElseThrow(
                 () -> new BusinessException(String.format("No Customer with identity [%s] exist !", identityRef))
         );
-        customerToPersist.setId(customerFound.getId());
-        customerToPersist.setIdentityRef(identityRef);
-        UpdateCustomerResponse updateCustomerResponse = modelMapper.map(customerRepository.save(customerToPersist), UpdateCustomerResponse.class);
+        eventPublisher.publishEvent(SecurityDataChangedEvent.forUser(customerFound.getUsername()));
+        lookupCaches.evictCustomer(customerFound);
+        // Entité gérée : les colonnes modifiées sont écrites au commit (dirty checking), sans merge
+        if (updateCustomerRequest.getUsername() != null)
+            customerFound.setUsername(updateCustomerRequest.getUsername());
+        if (updateCustomerRequest.getFirstname() != null)
+            customerFound.setFirstname(updateCustomerRequest.getFirstname());
+        if (updateCustomerRequest.getLastname() != null)
+            customerFound.setLastname(updateCustomerRequest.getLastname());
+        UpdateCustomerResponse updateCustomerResponse = dtoMapper.toUpdateCustomerResponse(customerFound);
         updateCustomerResponse.setMessage(String.format("Customer identity %s is updated with success", identityRef));
         return updateCustomerResponse;
     }
 
+    // Pas de readOnly : le cache est rempli depuis le principal, pas depuis une réplique en retard
     @Override
+    @Cacheable(cacheNames = CacheConfig.CUSTOMERS_BY_IDENTITY, condition = "#identity != null")
     public CustomerDto getCustomByIdentity(String identity) {
-        return modelMapper.map(customerRepository.findByIdentityRef(identity).orElseThrow(
-                        () -> new BusinessException(String.format("No Customer with identity [%s] exist !", identity))),
-                CustomerDto.class);
+        return dtoMapper.toCustomerDto(customerRepository.findByIdentityRef(identity).orElseThrow(
+                () -> new BusinessException(String.format("No Customer with identity [%s] exist !", identity))));
     }
 
     @Override
     public String deleteCustomerByIdentityRef(String identityRef) {
         if (identityRef == null || identityRef.isEmpty())
             throw new BusinessException("Enter a correct identity customer");
-        Customer customerFound = customerRepository.findAll().stream().filter(customer -> customer.getIdentityRef().equals(identityRef)).findFirst().orElseThrow(
+        Customer customerFound = customerRepository.findByIdentityRef(identityRef).orElseThrow(
                 () -> new BusinessException(String.format("No customer with identity %s exist in database", identityRef))
         );
+        lookupCaches.evictCustomer(customerFound);
         customerRepository.delete(customerFound);
+        eventPublisher.publishEvent(SecurityDataChangedEvent.forUser(customerFound.getUsername()));
         return String.format("Customer with identity %s is deleted with success", identityRef);
 
     }
@@ -3,11 +3,15 @@ package ma.formations.multiconnector.service;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
 import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
 import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 public interface IBankAccountService {
     AddBankAccountResponse saveBankAccount(AddBankAccountRequest dto);
     List<BankAccountDto> getAllBankAccounts();
+    Slice<BankAccountDto> getBankAccounts(Pageable pageable);
+    Slice<BankAccountDto> getBankAccountsAfter(Long afterId, int size, boolean descending);
     BankAccountDto getBankAccountByRib(String rib);
 }
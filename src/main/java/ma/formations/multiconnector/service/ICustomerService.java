@@ -1,11 +1,14 @@
 package ma.formations.multiconnector.service;
 
 import ma.formations.multiconnector.dtos.customer.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 public interface ICustomerService {
     List<CustomerDto> getAllCustomers();
+    Slice<CustomerDto> getCustomers(Pageable pageable);
     AddCustomerResponse createCustomer(AddCustomerRequest addCustomerRequest);
     UpdateCustomerResponse updateCustomer(String identityRef, UpdateCustomerRequest updateCustomerRequest);
     CustomerDto getCustomByIdentity(String identity);
@@ -1,12 +1,18 @@
 package ma.formations.multiconnector.service;
 
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
 import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
 import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionPageRequest;
 import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.TransactionPageDto;
 
 import java.util.List;
 public interface ITransactionService {
     AddWirerTransferResponse wiredTransfer(AddWirerTransferRequest dto);
+    AddWirerTransferBatchResponse wiredTransferBatch(AddWirerTransferBatchRequest dto);
     List<TransactionDto> getTransactions(GetTransactionListRequest dto);
+    TransactionPageDto getTransactionPage(GetTransactionPageRequest dto);
 }
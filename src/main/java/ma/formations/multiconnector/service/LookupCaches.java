@@ -0,0 +1,42 @@
+package ma.formations.multiconnector.service;
+
+import ma.formations.multiconnector.config.CacheConfig;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.Customer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Évictions ciblées des caches de lecture (CacheConfig), appliquées après le commit de la transaction courante.
+ */
+@Component
+public class LookupCaches {
+    private final Cache bankAccountsByRib;
+    private final Cache customersByIdentity;
+
+    public LookupCaches(CacheManager cacheManager) {
+        this.bankAccountsByRib = cacheManager.getCache(CacheConfig.BANK_ACCOUNTS_BY_RIB);
+        this.customersByIdentity = cacheManager.getCache(CacheConfig.CUSTOMERS_BY_IDENTITY);
+    }
+
+    public void evictBankAccounts(Collection<String> ribs) {
+        ribs.forEach(this::evictBankAccount);
+    }
+
+    public void evictBankAccount(String rib) {
+        if (rib != null)
+            bankAccountsByRib.evict(rib);
+    }
+
+    /**
+     * Le client est aussi recopié dans chaque BankAccountDto : ses comptes sont évincés avec lui.
+     */
+    public void evictCustomer(Customer customer) {
+        customersByIdentity.evict(customer.getIdentityRef());
+        if (customer.getBankAccounts() != null)
+            customer.getBankAccounts().stream().map(BankAccount::getRib).forEach(this::evictBankAccount);
+    }
+}
@@ -1,71 +1,138 @@
 package ma.formations.multiconnector.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.common.TransferSettings;
 import ma.formations.multiconnector.dao.BankAccountRepository;
 import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
 import ma.formations.multiconnector.dao.UserRepository;
-import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
-import ma.formations.multiconnector.dtos.transaction.AddWirerTransferResponse;
-import ma.formations.multiconnector.dtos.transaction.GetTransactionListRequest;
-import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.transaction.*;
 import ma.formations.multiconnector.enums.AccountStatus;
 import ma.formations.multiconnector.enums.TransactionType;
+import ma.formations.multiconnector.enums.TransferMode;
 import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.lock.RibLockStripes;
+import ma.formations.multiconnector.service.mapper.DtoMapper;
 import ma.formations.multiconnector.service.model.BankAccount;
 import ma.formations.multiconnector.service.model.BankAccountTransaction;
 import ma.formations.multiconnector.service.model.GetTransactionListBo;
 import ma.formations.multiconnector.service.model.User;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @AllArgsConstructor
 public class TransactionServiceImpl implements ITransactionService {
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+    private static final int MAX_HISTORY_PAGE_SIZE = 500;
+    private static final int DEFAULT_BATCH_CHUNK_SIZE = 500;
 
     private final BankAccountRepository bankAccountRepository;
     private final BankAccountTransactionRepository bankAccountTransactionRepository;
 
     private final UserRepository userRepository;
 
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper;
 
+    private final RibLockStripes ribLockStripes;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferSettings transferSettings;
+    private final MeterRegistry meterRegistry;
+    private final LookupCaches lookupCaches;
 
+
+    /**
+     * En mode PESSIMISTIC, les verrous par RIB sont pris avant d'ouvrir la transaction et rendus après le commit,
+     * pour que le virement suivant sur le même compte lise toujours le solde commité.
+     * En mode OPTIMISTIC, aucun verrou : le conflit est détecté par la version du compte et le virement rejoué.
+     * En mode ATOMIC, débit et crédit sont des UPDATE conditionnels, sans chargement préalable des comptes.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AddWirerTransferResponse wiredTransfer(AddWirerTransferRequest dto) {
+        if (transferSettings.getMode() == TransferMode.ATOMIC)
+            return transactionTemplate.execute(status -> atomicWiredTransfer(dto));
+        if (transferSettings.getMode() == TransferMode.OPTIMISTIC)
+            return optimisticWiredTransfer(dto);
+        try (RibLockStripes.Lease ignored = ribLockStripes.acquire(dto.getRibFrom(), dto.getRibTo())) {
+            return transactionTemplate.execute(status -> doWiredTransfer(dto, true));
+        }
+    }
 
-        BankAccountTransaction transactionFrom = BankAccountTransaction.builder().
-                amount(dto.getAmount()).
-                transactionType(TransactionType.DEBIT).
-                bankAccount(BankAccount.builder().rib(dto.getRibFrom()).build()).
-                user(new User(dto.getUsername())).
-                build();
+    private AddWirerTransferResponse optimisticWiredTransfer(AddWirerTransferRequest dto) {
+        int maxAttempts = Math.max(1, transferSettings.getOptimisticMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            countOptimistic("bank.transfer.optimistic.attempts", dto);
+            try {
+                return transactionTemplate.execute(status -> doWiredTransfer(dto, false));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    countOptimistic("bank.transfer.optimistic.aborts", dto);
+                    throw new BusinessException(String.format("the transfer from %s to %s was aborted after %s concurrent updates, please retry",
+                            dto.getRibFrom(), dto.getRibTo(), attempt));
+                }
+                countOptimistic("bank.transfer.optimistic.retries", dto);
+                backOff(attempt);
+            }
+        }
+    }
 
-        BankAccountTransaction transactionTo = BankAccountTransaction.builder().
-                amount(dto.getAmount()).
-                transactionType(TransactionType.CREDIT).
-                bankAccount(BankAccount.builder().rib(dto.getRibTo()).build()).
-                user(new User(dto.getUsername())).
-                build();
+    private void countOptimistic(String metric, AddWirerTransferRequest dto) {
+        meterRegistry.counter(metric, "rib", String.valueOf(dto.getRibFrom())).increment();
+        meterRegistry.counter(metric, "rib", String.valueOf(dto.getRibTo())).increment();
+    }
 
-        String username = transactionFrom.getUser().getUsername();
-        String ribFrom = transactionFrom.getBankAccount().getRib();
-        String ribTo = transactionTo.getBankAccount().getRib();
-        Double amount = transactionFrom.getAmount();
+    /**
+     * Attente exponentielle avec gigue ("equal jitter") : les virements en conflit ne se représentent pas ensemble.
+     */
+    private void backOff(int attempt) {
+        long ceiling = transferSettings.getOptimisticBackoffMs() << Math.min(attempt - 1, 10);
+        if (ceiling <= 0)
+            return;
+        try {
+            Thread.sleep(ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("the transfer was interrupted while waiting to be retried");
+        }
+    }
 
-        User user = userRepository.findByUsername(username).
-                orElseThrow(() -> new BusinessException(String.format("User [%s] doesn't exist", username)));
+    private AddWirerTransferResponse doWiredTransfer(AddWirerTransferRequest dto, boolean lockAccounts) {
+        String ribFrom = dto.getRibFrom();
+        String ribTo = dto.getRibTo();
+        long amount = Money.toMinorUnits(dto.getAmount());
 
-        BankAccount bankAccountFrom = bankAccountRepository.findByRib(ribFrom).
-                orElseThrow(() -> new BusinessException(String.format("No bank account have the rib %s", ribFrom)));
+        User user = loadUser(dto.getUsername());
 
-        BankAccount bankAccountTo = bankAccountRepository.findByRib(ribTo).
-                orElseThrow(() -> new BusinessException(String.format("No bank account have the rib %s", ribTo)));
+        // Verrous SQL pris dans l'ordre des RIB : deux virements croisés ne peuvent pas s'interbloquer en base
+        BankAccount bankAccountFrom;
+        BankAccount bankAccountTo;
+        if (ribFrom != null && ribTo != null && ribTo.compareTo(ribFrom) < 0) {
+            bankAccountTo = loadBankAccount(ribTo, lockAccounts);
+            bankAccountFrom = loadBankAccount(ribFrom, lockAccounts);
+        } else {
+            bankAccountFrom = loadBankAccount(ribFrom, lockAccounts);
+            bankAccountTo = loadBankAccount(ribTo, lockAccounts);
+        }
 
         checkBusinessRules(bankAccountFrom, bankAccountTo, amount);
         //On débite le compte demandeur
@@ -73,47 +140,262 @@ public class TransactionServiceImpl implements ITransactionService {
         //On crédite le compte destinataire
         bankAccountTo.setAmount(bankAccountTo.getAmount() + amount);
 
-        transactionFrom.setCreatedAt(new Date());
-        transactionFrom.setUser(user);
-        transactionFrom.setBankAccount(bankAccountFrom);
+        return recordTransfer(dto, amount, user, bankAccountFrom, bankAccountTo);
+    }
+
+    /**
+     * Le contrôle du solde et du statut se fait dans l'UPDATE lui-même : pas de lecture préalable des comptes,
+     * pas de fenêtre entre la lecture et l'écriture. Les comptes ne sont relus qu'une fois modifiés, en une requête.
+     */
+    private AddWirerTransferResponse atomicWiredTransfer(AddWirerTransferRequest dto) {
+        String ribFrom = dto.getRibFrom();
+        String ribTo = dto.getRibTo();
+        long amount = Money.toMinorUnits(dto.getAmount());
+
+        User user = loadUser(dto.getUsername());
 
-        transactionTo.setCreatedAt(new Date());
-        transactionTo.setUser(user);
-        transactionTo.setBankAccount(bankAccountTo);
-        bankAccountTransactionRepository.save(transactionFrom);
-        bankAccountTransactionRepository.save(transactionTo);
+        // Lignes modifiées dans l'ordre des RIB : deux virements croisés ne peuvent pas s'interbloquer en base
+        if (ribFrom != null && ribTo != null && ribTo.compareTo(ribFrom) < 0) {
+            credit(ribTo, amount);
+            debit(ribFrom, amount);
+        } else {
+            debit(ribFrom, amount);
+            credit(ribTo, amount);
+        }
+
+        Map<String, BankAccount> bankAccounts = bankAccountRepository.findByRibIn(List.of(ribFrom, ribTo)).stream().
+                collect(Collectors.toMap(BankAccount::getRib, Function.identity(), (first, duplicate) -> first));
+        return recordTransfer(dto, amount, user, bankAccounts.get(ribFrom), bankAccounts.get(ribTo));
+    }
+
+    private void debit(String rib, long amount) {
+        if (bankAccountRepository.debit(rib, amount, AccountStatus.OPENED) == 0) {
+            BankAccount bankAccount = loadBankAccount(rib, false);
+            checkAccountStatus(bankAccount);
+            throw new BusinessException(String.format("the balance of account number %s is less than %s", rib, Money.format(amount)));
+        }
+    }
+
+    private void credit(String rib, long amount) {
+        if (bankAccountRepository.credit(rib, amount, AccountStatus.OPENED) == 0) {
+            checkAccountStatus(loadBankAccount(rib, false));
+            throw new BusinessException(String.format("the bank account %s can't be credited", rib));
+        }
+    }
+
+    private AddWirerTransferResponse recordTransfer(AddWirerTransferRequest dto, long amount, User user, BankAccount bankAccountFrom, BankAccount bankAccountTo) {
+        BankAccountTransaction transactionFrom = BankAccountTransaction.builder().
+                amount(amount).
+                transactionType(TransactionType.DEBIT).
+                bankAccount(bankAccountFrom).
+                user(user).
+                createdAt(new Date()).
+                build();
+
+        BankAccountTransaction transactionTo = BankAccountTransaction.builder().
+                amount(amount).
+                transactionType(TransactionType.CREDIT).
+                bankAccount(bankAccountTo).
+                user(user).
+                createdAt(new Date()).
+                build();
+
+        // Les deux lignes partent dans un même lot JDBC au flush
+        bankAccountTransactionRepository.saveAll(List.of(transactionFrom, transactionTo));
+        lookupCaches.evictBankAccounts(List.of(dto.getRibFrom(), dto.getRibTo()));
         return AddWirerTransferResponse.builder().
                 message(String.format("the transfer of an amount of %s from the %s bank account to %s was carried out successfully",
-                        dto.getAmount(), dto.getRibFrom(), dto.getRibTo())).
-                transactionFrom(modelMapper.map(transactionFrom, TransactionDto.class)).
-                transactionTo(modelMapper.map(transactionTo, TransactionDto.class)).
+                        Money.format(amount), dto.getRibFrom(), dto.getRibTo())).
+                transactionFrom(dtoMapper.toTransactionDto(transactionFrom)).
+                transactionTo(dtoMapper.toTransactionDto(transactionTo)).
                 build();
     }
 
-    private void checkBusinessRules(BankAccount bankAccountFrom, BankAccount bankAccountTo, Double amount) {
+    private User loadUser(String username) {
+        return userRepository.findByUsername(username).
+                orElseThrow(() -> new BusinessException(String.format("User [%s] doesn't exist", username)));
+    }
 
-        if (bankAccountFrom.getAccountStatus().equals(AccountStatus.CLOSED))
-            throw new BusinessException(String.format("the bank account %s is closed !!", bankAccountFrom.getRib()));
+    private BankAccount loadBankAccount(String rib, boolean lock) {
+        return (lock ? bankAccountRepository.findByRibForUpdate(rib) : bankAccountRepository.findByRib(rib)).
+                orElseThrow(() -> new BusinessException(String.format("No bank account have the rib %s", rib)));
+    }
 
-        if (bankAccountFrom.getAccountStatus().equals(AccountStatus.BLOCKED))
-            throw new BusinessException(String.format("the bank account %s is blocked !!", bankAccountFrom.getRib()));
+    private void checkBusinessRules(BankAccount bankAccountFrom, BankAccount bankAccountTo, long amount) {
+        checkAccountStatus(bankAccountFrom);
+        checkAccountStatus(bankAccountTo);
 
-        if (bankAccountTo.getAccountStatus().equals(AccountStatus.CLOSED))
-            throw new BusinessException(String.format("the bank account %s is closed !!", bankAccountTo.getRib()));
+        if (bankAccountFrom.getAmount() < amount)
+            throw new BusinessException(String.format("the balance of account number %s is less than %s", bankAccountFrom.getRib(), Money.format(amount)));
+    }
 
-        if (bankAccountTo.getAccountStatus().equals(AccountStatus.BLOCKED))
-            throw new BusinessException(String.format("the bank account %s is blocked !!", bankAccountTo.getRib()));
+    private void checkAccountStatus(BankAccount bankAccount) {
+        if (bankAccount.getAccountStatus().equals(AccountStatus.CLOSED))
+            throw new BusinessException(String.format("the bank account %s is closed !!", bankAccount.getRib()));
 
-        if (bankAccountFrom.getAmount() < amount)
-            throw new BusinessException(String.format("the balance of account number %s is less than %s", bankAccountFrom.getRib(), amount));
+        if (bankAccount.getAccountStatus().equals(AccountStatus.BLOCKED))
+            throw new BusinessException(String.format("the bank account %s is blocked !!", bankAccount.getRib()));
+    }
+
+
+    /**
+     * Les virements sont appliqués par tranches de bank.transfer.batch.chunk-size, une transaction par tranche.
+     * Un virement refusé (règle métier) n'empêche pas les autres ; seule une erreur technique annule sa tranche.
+     * Un lot de plus de bank.transfer.batch.max-size virements est refusé en entier.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AddWirerTransferBatchResponse wiredTransferBatch(AddWirerTransferBatchRequest dto) {
+        List<AddWirerTransferRequest> transfers = dto.getTransfers() == null ? List.of() : dto.getTransfers();
+        if (transfers.size() > transferSettings.getBatchMaxSize())
+            throw new BusinessException(String.format("the batch has %s transfers, the maximum is %s",
+                    transfers.size(), transferSettings.getBatchMaxSize()));
+        int chunkSize = transferSettings.getBatchChunkSize() > 0 ? transferSettings.getBatchChunkSize() : DEFAULT_BATCH_CHUNK_SIZE;
+        List<WirerTransferResult> results = new ArrayList<>(transfers.size());
+
+        for (int start = 0; start < transfers.size(); start += chunkSize) {
+            List<AddWirerTransferRequest> chunk = transfers.subList(start, Math.min(start + chunkSize, transfers.size()));
+            int offset = start;
+            try {
+                results.addAll(transactionTemplate.execute(status -> applyTransferChunk(chunk, offset)));
+            } catch (RuntimeException e) {
+                for (int i = 0; i < chunk.size(); i++)
+                    results.add(WirerTransferResult.builder().
+                            index(offset + i).
+                            success(false).
+                            message(String.format("the transfer was rolled back with its chunk : %s", e.getMessage())).
+                            build());
+            }
+        }
+
+        int succeeded = (int) results.stream().filter(WirerTransferResult::isSuccess).count();
+        return AddWirerTransferBatchResponse.builder().
+                succeeded(succeeded).
+                failed(results.size() - succeeded).
+                results(results).
+                build();
     }
 
+    private List<WirerTransferResult> applyTransferChunk(List<AddWirerTransferRequest> chunk, int offset) {
+        Set<String> ribs = new HashSet<>();
+        Set<String> usernames = new HashSet<>();
+        chunk.forEach(transfer -> {
+            ribs.add(transfer.getRibFrom());
+            ribs.add(transfer.getRibTo());
+            usernames.add(transfer.getUsername());
+        });
+        // Tous les comptes de la tranche sont chargés et verrouillés en une requête, dans l'ordre des RIB
+        Map<String, BankAccount> bankAccounts = bankAccountRepository.findByRibInForUpdate(ribs).stream().
+                collect(Collectors.toMap(BankAccount::getRib, Function.identity(), (first, duplicate) -> first));
+        Map<String, User> users = userRepository.findByUsernameIn(usernames).stream().
+                collect(Collectors.toMap(User::getUsername, Function.identity(), (first, duplicate) -> first));
+
+        List<WirerTransferResult> results = new ArrayList<>(chunk.size());
+        List<BankAccountTransaction> transactions = new ArrayList<>(chunk.size() * 2);
+        for (int i = 0; i < chunk.size(); i++) {
+            AddWirerTransferRequest transfer = chunk.get(i);
+            try {
+                User user = users.get(transfer.getUsername());
+                if (user == null)
+                    throw new BusinessException(String.format("User [%s] doesn't exist", transfer.getUsername()));
+                BankAccount bankAccountFrom = getBankAccount(bankAccounts, transfer.getRibFrom());
+                BankAccount bankAccountTo = getBankAccount(bankAccounts, transfer.getRibTo());
+                if (transfer.getAmount() == null)
+                    throw new BusinessException("the amount of the transfer is missing");
+                long amount = Money.toMinorUnits(transfer.getAmount());
+
+                checkBusinessRules(bankAccountFrom, bankAccountTo, amount);
+                bankAccountFrom.setAmount(bankAccountFrom.getAmount() - amount);
+                bankAccountTo.setAmount(bankAccountTo.getAmount() + amount);
+                lookupCaches.evictBankAccounts(List.of(bankAccountFrom.getRib(), bankAccountTo.getRib()));
+
+                Date createdAt = new Date();
+                transactions.add(BankAccountTransaction.builder().
+                        amount(amount).
+                        transactionType(TransactionType.DEBIT).
+                        bankAccount(bankAccountFrom).
+                        user(user).
+                        createdAt(createdAt).
+                        build());
+                transactions.add(BankAccountTransaction.builder().
+                        amount(amount).
+                        transactionType(TransactionType.CREDIT).
+                        bankAccount(bankAccountTo).
+                        user(user).
+                        createdAt(createdAt).
+                        build());
+                results.add(WirerTransferResult.builder().
+                        index(offset + i).
+                        success(true).
+                        message(String.format("the transfer of an amount of %s from the %s bank account to %s was carried out successfully",
+                                Money.format(amount), transfer.getRibFrom(), transfer.getRibTo())).
+                        build());
+            } catch (BusinessException e) {
+                results.add(WirerTransferResult.builder().
+                        index(offset + i).
+                        success(false).
+                        message(e.getMessage()).
+                        build());
+            }
+        }
+        // Insérés par lots JDBC (hibernate.jdbc.batch_size) au flush de la transaction
+        bankAccountTransactionRepository.saveAll(transactions);
+        return results;
+    }
+
+    private BankAccount getBankAccount(Map<String, BankAccount> bankAccounts, String rib) {
+        BankAccount bankAccount = bankAccounts.get(rib);
+        if (bankAccount == null)
+            throw new BusinessException(String.format("No bank account have the rib %s", rib));
+        return bankAccount;
+    }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TransactionDto> getTransactions(GetTransactionListRequest requestDTO) {
-        GetTransactionListBo data = modelMapper.map(requestDTO, GetTransactionListBo.class);
+        GetTransactionListBo data = dtoMapper.toGetTransactionListBo(requestDTO.getRib(), requestDTO.getDateFrom(), requestDTO.getDateTo());
         return bankAccountTransactionRepository.findByBankAccount_RibAndCreatedAtBetween(
                         data.getRib(), data.getDateFrom(), data.getDateTo()).
-                stream().map(bo -> modelMapper.map(bo, TransactionDto.class)).collect(Collectors.toList());
+                stream().map(dtoMapper::toTransactionDto).collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPageDto getTransactionPage(GetTransactionPageRequest requestDTO) {
+        GetTransactionListBo data = dtoMapper.toGetTransactionListBo(requestDTO.getRib(), requestDTO.getDateFrom(), requestDTO.getDateTo());
+        BankAccount bankAccount = loadBankAccount(data.getRib(), false);
+        int size = requestDTO.getSize() == null || requestDTO.getSize() <= 0 ?
+                DEFAULT_HISTORY_PAGE_SIZE : Math.min(requestDTO.getSize(), MAX_HISTORY_PAGE_SIZE);
+        // Une ligne de plus que la page pour savoir s'il en reste, sans requête count
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<BankAccountTransaction> rows;
+        if (requestDTO.getCursor() == null || requestDTO.getCursor().isBlank()) {
+            rows = bankAccountTransactionRepository.findHistory(bankAccount.getId(), data.getDateFrom(), data.getDateTo(), limit);
+        } else {
+            long[] cursor = decodeCursor(requestDTO.getCursor());
+            rows = bankAccountTransactionRepository.findHistoryAfter(bankAccount.getId(), data.getDateTo(),
+                    new Date(cursor[0]), cursor[1], limit);
+        }
+        boolean hasNext = rows.size() > size;
+        List<BankAccountTransaction> page = hasNext ? rows.subList(0, size) : rows;
+        return TransactionPageDto.builder().
+                transactions(page.stream().map(dtoMapper::toTransactionDto).collect(Collectors.toList())).
+                nextCursor(hasNext ? encodeCursor(page.get(page.size() - 1)) : null).
+                hasNext(hasNext).
+                build();
+    }
+
+    private static String encodeCursor(BankAccountTransaction last) {
+        String key = last.getCreatedAt().getTime() + ":" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long[] decodeCursor(String cursor) {
+        try {
+            String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split(":");
+            return new long[]{Long.parseLong(key[0]), Long.parseLong(key[1])};
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BusinessException(String.format("the cursor %s is not valid", cursor));
+        }
     }
 }
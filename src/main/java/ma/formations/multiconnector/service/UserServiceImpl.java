@@ -1,17 +1,23 @@
 package ma.formations.multiconnector.service;
 
 import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.AuthTracing;
 import ma.formations.multiconnector.dao.PermissionRepository;
 import ma.formations.multiconnector.dao.RoleRepository;
 import ma.formations.multiconnector.dao.UserRepository;
 import ma.formations.multiconnector.dtos.user.PermissionVo;
 import ma.formations.multiconnector.dtos.user.RoleVo;
 import ma.formations.multiconnector.dtos.user.UserVo;
+import ma.formations.multiconnector.service.event.SecurityDataChangedEvent;
 import ma.formations.multiconnector.service.model.Permission;
 import ma.formations.multiconnector.service.model.Role;
 import ma.formations.multiconnector.service.model.User;
 import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,69 +31,67 @@ import java.util.stream.Collectors;
 @Service
 @Transactional
 @AllArgsConstructor
-public class UserServiceImpl implements IUserService, UserDetailsService {
+public class UserServiceImpl implements IUserService, UserDetailsService, UserDetailsPasswordService {
+    private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
     private UserRepository userRepository;
     private RoleRepository roleRepository;
     private PasswordEncoder passwordEncoder;
     private ModelMapper modelMapper;
     private PermissionRepository permissionRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private AuthTracing authTracing;
+    private AuthorityExpansionTable authorityExpansionTable;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        long trace = authTracing.start();
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
-        
-        // Debug: Afficher les rôles de l'utilisateur depuis la base de données
-        System.out.println("DEBUG: User " + username + " has " + user.getAuthorities().size() + " roles");
-        user.getAuthorities().forEach(role -> {
-            System.out.println("DEBUG: Role from DB: " + role.getAuthority());
-            role.getAuthorities().forEach(permission -> {
-                System.out.println("DEBUG: Permission: " + permission.getAuthority());
-            });
-        });
-        
-        UserVo userVo = modelMapper.map(user, UserVo.class);
-        
-        // Debug: Vérifier le mapping
-        System.out.println("DEBUG: UserVo after mapping has " + userVo.getRoles().size() + " roles");
-        userVo.getRoles().forEach(role -> {
-            System.out.println("DEBUG: RoleVo: " + role.getAuthority());
-        });
-        
-        // Créer une liste qui contient les rôles originaux ET les permissions comme autorités
-        List<RoleVo> allAuthorities = new ArrayList<>();
-        
-        // Ajouter les rôles originaux
-        if (user.getAuthorities() != null) {
-            user.getAuthorities().forEach(role -> {
-                RoleVo roleVo = RoleVo.builder()
-                        .authority(role.getAuthority())
-                        .build();
-                allAuthorities.add(roleVo);
-                
-                // Ajouter les permissions de chaque rôle comme autorités individuelles
-                if (role.getAuthorities() != null) {
-                    role.getAuthorities().forEach(permission -> {
-                        RoleVo permissionVo = RoleVo.builder()
-                                .authority(permission.getAuthority())
-                                .build();
-                        allAuthorities.add(permissionVo);
-                    });
-                }
-            });
-        }
-        
-        userVo.setRoles(allAuthorities);
-        
-        // Debug: Vérifier le résultat final
-        System.out.println("DEBUG: Final UserVo has " + userVo.getRoles().size() + " authorities");
-        userVo.getRoles().forEach(auth -> {
-            System.out.println("DEBUG: Final authority: " + auth.getAuthority());
-        });
-        
+        trace = authTracing.lookup(trace);
+
+        List<RoleVo> allAuthorities = user.getAuthorities() == null ? new ArrayList<>() :
+                authorityExpansionTable.expand(user.getAuthorities());
+        trace = authTracing.authorities(trace);
+
+        UserVo userVo = UserVo.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .accountNonExpired(user.isAccountNonExpired())
+                .accountNonLocked(user.isAccountNonLocked())
+                .credentialsNonExpired(user.isCredentialsNonExpired())
+                .enabled(user.isEnabled())
+                .email(user.getEmail())
+                .roles(allAuthorities)
+                .build();
+        authTracing.mapping(trace);
+
+        logger.atDebug().
+                setMessage("User {} loaded with authorities {}").
+                addArgument(username).
+                addArgument(() -> allAuthorities.stream().map(RoleVo::getAuthority).collect(Collectors.joining(", "))).
+                log();
         return userVo;
     }
 
+    /**
+     * Appelé par DaoAuthenticationProvider après une connexion réussie quand le hash stocké
+     * n'a pas le coût BCrypt configuré : newPassword est déjà encodé.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        // Le principal en cache (PrincipalResolver, mode CACHE) porte encore l'ancien hash
+        eventPublisher.publishEvent(SecurityDataChangedEvent.forUser(user.getUsername()));
+        if (userDetails instanceof UserVo userVo) {
+            userVo.setPassword(newPassword);
+            return userVo;
+        }
+        return loadUserByUsername(user.getUsername());
+    }
+
     @Override
     public void save(UserVo userVo) {
         User user = modelMapper.map(userVo, User.class);
@@ -102,6 +106,7 @@ public class UserServiceImpl implements IUserService, UserDetailsService {
         );
 
         userRepository.save(user);
+        eventPublisher.publishEvent(SecurityDataChangedEvent.forUser(user.getUsername()));
     }
 
     @Override
@@ -111,11 +116,13 @@ public class UserServiceImpl implements IUserService, UserDetailsService {
                 permissionRepository.findByAuthority(bo.getAuthority()).get()).
                 collect(Collectors.toList()));
         roleRepository.save(role);
+        eventPublisher.publishEvent(SecurityDataChangedEvent.forAllUsers());
     }
 
     @Override
     public void save(PermissionVo vo) {
         permissionRepository.save(modelMapper.map(vo, Permission.class));
+        eventPublisher.publishEvent(SecurityDataChangedEvent.forAllUsers());
     }
 
     @Override
@@ -0,0 +1,22 @@
+package ma.formations.multiconnector.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Publié quand un utilisateur, un rôle ou une permission change : username est null
+ * quand le changement peut concerner tous les utilisateurs (rôles, permissions).
+ */
+@Getter
+@AllArgsConstructor
+public class SecurityDataChangedEvent {
+    private final String username;
+
+    public static SecurityDataChangedEvent forUser(String username) {
+        return new SecurityDataChangedEvent(username);
+    }
+
+    public static SecurityDataChangedEvent forAllUsers() {
+        return new SecurityDataChangedEvent(null);
+    }
+}
@@ -0,0 +1,7 @@
+package ma.formations.multiconnector.service.exception;
+
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,83 @@
+package ma.formations.multiconnector.service.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Verrous in-process répartis par RIB (lock striping).
+ * Les comptes sans rapport tombent sur des stripes différents et avancent en parallèle,
+ * un compte très sollicité fait la queue de manière équitable (fair lock).
+ * Les stripes sont toujours pris dans l'ordre croissant de leur index : pas d'interblocage
+ * entre deux virements croisés (A -> B et B -> A).
+ */
+@Component
+public class RibLockStripes {
+
+    private final ReentrantLock[] stripes;
+
+    public RibLockStripes(@Value("${bank.transfer.lock-stripes:1024}") int stripeCount) {
+        if (stripeCount <= 0)
+            throw new IllegalArgumentException("bank.transfer.lock-stripes must be positive");
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++)
+            stripes[i] = new ReentrantLock(true);
+    }
+
+    public Lease acquire(String... ribs) {
+        int[] indexes = stripeIndexes(ribs);
+        int acquired = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lockInterruptibly();
+                acquired++;
+            }
+        } catch (InterruptedException e) {
+            release(indexes, acquired);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the bank account locks", e);
+        }
+        return new Lease(indexes);
+    }
+
+    private int[] stripeIndexes(String... ribs) {
+        int[] indexes = new int[ribs.length];
+        for (int i = 0; i < ribs.length; i++)
+            indexes[i] = stripeOf(ribs[i]);
+        return Arrays.stream(indexes).sorted().distinct().toArray();
+    }
+
+    private int stripeOf(String rib) {
+        int h = Objects.hashCode(rib);
+        // Dispersion des bits de poids fort, les RIB ne diffèrent souvent que par leur suffixe
+        h ^= (h >>> 16);
+        h *= 0x85ebca6b;
+        h ^= (h >>> 13);
+        return Math.floorMod(h, stripes.length);
+    }
+
+    private void release(int[] indexes, int count) {
+        for (int i = count - 1; i >= 0; i--)
+            stripes[indexes[i]].unlock();
+    }
+
+    public final class Lease implements AutoCloseable {
+        private final int[] indexes;
+        private boolean released;
+
+        private Lease(int[] indexes) {
+            this.indexes = indexes;
+        }
+
+        @Override
+        public void close() {
+            if (released)
+                return;
+            released = true;
+            release(indexes, indexes.length);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package ma.formations.multiconnector.service.mapper;
+
+import lombok.AllArgsConstructor;
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountRequest;
+import ma.formations.multiconnector.dtos.bankaccount.AddBankAccountResponse;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.customer.AddCustomerRequest;
+import ma.formations.multiconnector.dtos.customer.AddCustomerResponse;
+import ma.formations.multiconnector.dtos.customer.CustomerDto;
+import ma.formations.multiconnector.dtos.customer.UpdateCustomerResponse;
+import ma.formations.multiconnector.dtos.transaction.TransactionDto;
+import ma.formations.multiconnector.dtos.user.UserDto;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import ma.formations.multiconnector.service.model.BankAccount;
+import ma.formations.multiconnector.service.model.BankAccountTransaction;
+import ma.formations.multiconnector.service.model.Customer;
+import ma.formations.multiconnector.service.model.GetTransactionListBo;
+import ma.formations.multiconnector.service.model.User;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.util.Date;
+
+/**
+ * Conversions entité <-> DTO écrites à la main pour les chemins chauds des services :
+ * appels directs aux accesseurs, sans réflexion ni appariement de propriétés à l'exécution (ModelMapper).
+ * Mêmes règles que ModelMapperConfig : dates au format graphql.date.format, enums par leur nom,
+ * valeurs nulles laissées nulles.
+ */
+@Component
+@AllArgsConstructor
+public class DtoMapper {
+    private final CommonTools tools;
+
+    public CustomerDto toCustomerDto(Customer customer) {
+        if (customer == null)
+            return null;
+        return CustomerDto.builder().
+                id(customer.getId()).
+                username(customer.getUsername()).
+                identityRef(customer.getIdentityRef()).
+                firstname(customer.getFirstname()).
+                lastname(customer.getLastname()).
+                build();
+    }
+
+    public AddCustomerResponse toAddCustomerResponse(Customer customer) {
+        return AddCustomerResponse.builder().
+                id(customer.getId()).
+                username(customer.getUsername()).
+                identityRef(customer.getIdentityRef()).
+                firstname(customer.getFirstname()).
+                lastname(customer.getLastname()).
+                build();
+    }
+
+    public UpdateCustomerResponse toUpdateCustomerResponse(Customer customer) {
+        return UpdateCustomerResponse.builder().
+                id(customer.getId()).
+                username(customer.getUsername()).
+                identityRef(customer.getIdentityRef()).
+                firstname(customer.getFirstname()).
+                lastname(customer.getLastname()).
+                build();
+    }
+
+    public Customer toCustomer(AddCustomerRequest dto) {
+        Customer customer = new Customer();
+        customer.setUsername(dto.getUsername());
+        customer.setIdentityRef(dto.getIdentityRef());
+        customer.setFirstname(dto.getFirstname());
+        customer.setLastname(dto.getLastname());
+        return customer;
+    }
+
+    public BankAccountDto toBankAccountDto(BankAccount bankAccount) {
+        if (bankAccount == null)
+            return null;
+        return BankAccountDto.builder().
+                id(bankAccount.getId()).
+                rib(bankAccount.getRib()).
+                amount(Money.toMajorUnits(bankAccount.getAmount())).
+                createdAt(format(bankAccount.getCreatedAt())).
+                accountStatus(bankAccount.getAccountStatus() == null ? null : bankAccount.getAccountStatus().name()).
+                customer(toCustomerDto(bankAccount.getCustomer())).
+                build();
+    }
+
+    public AddBankAccountResponse toAddBankAccountResponse(BankAccount bankAccount) {
+        return AddBankAccountResponse.builder().
+                id(bankAccount.getId()).
+                rib(bankAccount.getRib()).
+                amount(Money.toMajorUnits(bankAccount.getAmount())).
+                createdAt(format(bankAccount.getCreatedAt())).
+                accountStatus(bankAccount.getAccountStatus()).
+                customer(toCustomerDto(bankAccount.getCustomer())).
+                build();
+    }
+
+    /**
+     * Le client est rattaché par le service à partir de customerIdentityRef.
+     */
+    public BankAccount toBankAccount(AddBankAccountRequest dto) {
+        return BankAccount.builder().
+                rib(dto.getRib()).
+                amount(dto.getAmount() == null ? 0L : Money.toSignedMinorUnits(dto.getAmount())).
+                build();
+    }
+
+    public TransactionDto toTransactionDto(BankAccountTransaction transaction) {
+        return TransactionDto.builder().
+                id(transaction.getId()).
+                createdAt(format(transaction.getCreatedAt())).
+                transactionType(transaction.getTransactionType() == null ? null : transaction.getTransactionType().name()).
+                amount(Money.toMajorUnits(transaction.getAmount())).
+                bankAccount(toBankAccountDto(transaction.getBankAccount())).
+                user(toUserDto(transaction.getUser())).
+                build();
+    }
+
+    public UserDto toUserDto(User user) {
+        if (user == null)
+            return null;
+        return UserDto.builder().
+                username(user.getUsername()).
+                firstname(user.getFirstname()).
+                lastname(user.getLastname()).
+                build();
+    }
+
+    public GetTransactionListBo toGetTransactionListBo(String rib, String dateFrom, String dateTo) {
+        return GetTransactionListBo.builder().
+                rib(rib).
+                dateFrom(parse(dateFrom)).
+                dateTo(parse(dateTo)).
+                build();
+    }
+
+    private String format(Date date) {
+        return date == null ? null : tools.dateToString(date);
+    }
+
+    private Date parse(String date) {
+        if (date == null)
+            return null;
+        try {
+            return tools.stringToDate(date);
+        } catch (ParseException e) {
+            throw new BusinessException(String.format("the date %s doesn't respect the format %s ", date, tools.getDateFormat()));
+        }
+    }
+}
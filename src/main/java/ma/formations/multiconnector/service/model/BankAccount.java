@@ -11,19 +11,24 @@ import java.util.Date;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "ux_bank_account_rib", columnList = "rib", unique = true))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Data
 public class BankAccount {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bank_account_seq")
+    @SequenceGenerator(name = "bank_account_seq", allocationSize = 50)
     private Long id;
     private String rib;
-    private Double amount;
+    // Solde en unités mineures (centimes, voir Money)
+    private long amount;
     private Date createdAt;
     @Enumerated(EnumType.STRING)
     private AccountStatus accountStatus;
+    @Version
+    private Long version;
 
     @ManyToOne
     private Customer customer;
@@ -37,8 +42,8 @@ public class BankAccount {
     public String getRib() { return rib; }
     public void setRib(String rib) { this.rib = rib; }
     
-    public Double getAmount() { return amount; }
-    public void setAmount(Double amount) { this.amount = amount; }
+    public long getAmount() { return amount; }
+    public void setAmount(long amount) { this.amount = amount; }
     
     public Date getCreatedAt() { return createdAt; }
     public void setCreatedAt(Date createdAt) { this.createdAt = createdAt; }
@@ -46,6 +51,9 @@ public class BankAccount {
     public AccountStatus getAccountStatus() { return accountStatus; }
     public void setAccountStatus(AccountStatus accountStatus) { this.accountStatus = accountStatus; }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     public Customer getCustomer() { return customer; }
     public void setCustomer(Customer customer) { this.customer = customer; }
     
@@ -60,7 +68,7 @@ public class BankAccount {
     public static class BankAccountBuilder {
         private Long id;
         private String rib;
-        private Double amount;
+        private long amount;
         private Date createdAt;
         private AccountStatus accountStatus;
         private Customer customer;
@@ -71,7 +79,7 @@ public class BankAccount {
             return this;
         }
 
-        public BankAccountBuilder amount(Double amount) {
+        public BankAccountBuilder amount(long amount) {
             this.amount = amount;
             return this;
         }
@@ -10,13 +10,16 @@ import ma.formations.multiconnector.enums.TransactionType;
 import java.util.Date;
 
 @Entity
+@Table(indexes = @Index(name = "idx_transaction_history", columnList = "bank_account_id, created_at, id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Data
 public class BankAccountTransaction {
     @Id
-    @GeneratedValue
+    // Identifiants réservés par blocs de 50 (une lecture de séquence pour 50 lignes, autant que hibernate.jdbc.batch_size)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bank_account_transaction_seq")
+    @SequenceGenerator(name = "bank_account_transaction_seq", allocationSize = 50)
     private Long id;
 
     @Temporal(TemporalType.TIMESTAMP)
@@ -24,7 +27,8 @@ public class BankAccountTransaction {
 
     @Enumerated(EnumType.STRING)
     private TransactionType transactionType;
-    private Double amount;
+    // Montant en unités mineures (centimes, voir Money)
+    private long amount;
     @ManyToOne
     private BankAccount bankAccount;
 
@@ -41,8 +45,8 @@ public class BankAccountTransaction {
     public TransactionType getTransactionType() { return transactionType; }
     public void setTransactionType(TransactionType transactionType) { this.transactionType = transactionType; }
     
-    public Double getAmount() { return amount; }
-    public void setAmount(Double amount) { this.amount = amount; }
+    public long getAmount() { return amount; }
+    public void setAmount(long amount) { this.amount = amount; }
     
     public BankAccount getBankAccount() { return bankAccount; }
     public void setBankAccount(BankAccount bankAccount) { this.bankAccount = bankAccount; }
@@ -59,11 +63,11 @@ public class BankAccountTransaction {
         private Long id;
         private Date createdAt;
         private TransactionType transactionType;
-        private Double amount;
+        private long amount;
         private BankAccount bankAccount;
         private User user;
 
-        public BankAccountTransactionBuilder amount(Double amount) {
+        public BankAccountTransactionBuilder amount(long amount) {
             this.amount = amount;
             return this;
         }
@@ -5,12 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Data
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "roles")
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
@@ -23,5 +26,7 @@ public class Role {
     private String authority;
 
     @ManyToMany(cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "role-permissions")
+    @JoinTable(indexes = @Index(name = "ix_role_authorities_role", columnList = "role_id, authorities_id"))
     private List<Permission> authorities = new ArrayList<>();
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+-- Schéma initial, identique à celui généré par Hibernate pour les entités (ddl-auto=validate en prod)
+
+create sequence "bank_account_seq" start with 1 increment by 50;
+create sequence "bank_account_transaction_seq" start with 1 increment by 50;
+create sequence "permission_seq" start with 1 increment by 50;
+create sequence "role_seq" start with 1 increment by 50;
+create sequence "user_seq" start with 1 increment by 50;
+
+create table "user" (
+    "account_non_expired" boolean not null,
+    "account_non_locked" boolean not null,
+    "credentials_non_expired" boolean not null,
+    "enabled" boolean not null,
+    "id" bigint not null,
+    "email" varchar(255),
+    "firstname" varchar(255),
+    "lastname" varchar(255),
+    "password" varchar(255),
+    "username" varchar(255),
+    primary key ("id")
+);
+
+create table "customer" (
+    "id" bigint not null,
+    "identity_ref" varchar(255) unique,
+    primary key ("id"),
+    constraint "fk_customer_user" foreign key ("id") references "user"
+);
+
+create table "permission" (
+    "id" integer not null,
+    "authority" varchar(255) unique,
+    primary key ("id")
+);
+
+create table "role" (
+    "id" integer not null,
+    "authority" varchar(255) unique,
+    primary key ("id")
+);
+
+create table "role_authorities" (
+    "authorities_id" integer not null,
+    "role_id" integer not null,
+    constraint "fk_role_authorities_permission" foreign key ("authorities_id") references "permission",
+    constraint "fk_role_authorities_role" foreign key ("role_id") references "role"
+);
+
+create table "user_role" (
+    "role_id" integer not null,
+    "user_id" bigint not null,
+    constraint "fk_user_role_role" foreign key ("role_id") references "role",
+    constraint "fk_user_role_user" foreign key ("user_id") references "user"
+);
+
+create table "bank_account" (
+    "amount" bigint not null,
+    "created_at" timestamp(6),
+    "customer_id" bigint,
+    "id" bigint not null,
+    "version" bigint,
+    "account_status" varchar(255) check ("account_status" in ('OPENED','CLOSED','BLOCKED')),
+    "rib" varchar(255),
+    primary key ("id"),
+    constraint "fk_bank_account_customer" foreign key ("customer_id") references "customer"
+);
+
+create table "bank_account_transaction" (
+    "amount" bigint not null,
+    "bank_account_id" bigint,
+    "created_at" timestamp(6),
+    "id" bigint not null,
+    "user_id" bigint,
+    "transaction_type" varchar(255) check ("transaction_type" in ('CREDIT','DEBIT')),
+    primary key ("id"),
+    constraint "fk_transaction_bank_account" foreign key ("bank_account_id") references "bank_account",
+    constraint "fk_transaction_user" foreign key ("user_id") references "user"
+);
+
+create index "idx_transaction_history" on "bank_account_transaction" ("bank_account_id", "created_at", "id");
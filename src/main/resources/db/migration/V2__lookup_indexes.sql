@@ -0,0 +1,6 @@
+-- Index uniques des clés de recherche (findByRib, findByUsername), en plus de ceux d'identity_ref et authority
+create unique index "ux_bank_account_rib" on "bank_account" ("rib");
+create unique index "ux_user_username" on "user" ("username");
+-- Tables de jointure lues par propriétaire (rôles d'un utilisateur, permissions d'un rôle)
+create index "ix_user_role_user" on "user_role" ("user_id", "role_id");
+create index "ix_role_authorities_role" on "role_authorities" ("role_id", "authorities_id");
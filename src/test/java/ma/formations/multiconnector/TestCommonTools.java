@@ -0,0 +1,82 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.common.CommonTools;
+import ma.formations.multiconnector.common.Money;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestCommonTools {
+
+    private static CommonTools tools(String dateFormat) {
+        CommonTools tools = new CommonTools();
+        tools.setDateFormat(dateFormat);
+        return tools;
+    }
+
+    /**
+     * the fast path must give the same text as SimpleDateFormat
+     */
+    @Test
+    void formatsLikeSimpleDateFormat() {
+        CommonTools tools = tools("yyyy-MM-dd HH:mm:ss");
+        SimpleDateFormat reference = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        Random random = new Random(42);
+        long from = -2_000_000_000_000L;
+        long to = 4_200_000_000_000L;
+        for (int i = 0; i < 100_000; i++) {
+            Date date = new Date(from + (long) (random.nextDouble() * (to - from)));
+            assertThat(tools.dateToString(date)).isEqualTo(reference.format(date));
+        }
+        assertThat(tools.dateToString(new Date(0))).isEqualTo(reference.format(new Date(0)));
+    }
+
+    @Test
+    void parsesWhatItFormats() throws ParseException {
+        CommonTools tools = tools("yyyy-MM-dd HH:mm:ss");
+        Date date = tools.stringToDate("2024-02-29 23:59:58");
+        assertThat(tools.dateToString(date)).isEqualTo("2024-02-29 23:59:58");
+        assertThat(date).isEqualTo(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse("2024-02-29 23:59:58"));
+    }
+
+    @Test
+    void otherPatternsUseTheFormatter() throws ParseException {
+        CommonTools tools = tools("dd/MM/yyyy HH:mm");
+        Date date = tools.stringToDate("05/11/2023 08:30");
+        assertThat(tools.dateToString(date)).isEqualTo("05/11/2023 08:30");
+
+        tools.setDateFormat("yyyy-MM-dd");
+        assertThat(tools.dateToString(tools.stringToDate("2023-11-05"))).isEqualTo("2023-11-05");
+    }
+
+    @Test
+    void rejectsMalformedDates() {
+        CommonTools tools = tools("yyyy-MM-dd HH:mm:ss");
+        assertThatThrownBy(() -> tools.stringToDate("bad")).isInstanceOf(ParseException.class);
+        assertThatThrownBy(() -> tools.stringToDate("2024-13-01 00:00:00")).isInstanceOf(ParseException.class);
+    }
+
+    @Test
+    void transferAmountsMustBePositive() {
+        assertThat(Money.toMinorUnits(0.01)).isEqualTo(1L);
+        assertThat(Money.toMinorUnits(10000.5)).isEqualTo(1000050L);
+        assertThatThrownBy(() -> Money.toMinorUnits(0.0)).isInstanceOf(BusinessException.class).
+                hasMessage("the amount 0.0 must be positive");
+        assertThatThrownBy(() -> Money.toMinorUnits(-100.0)).isInstanceOf(BusinessException.class).
+                hasMessage("the amount -100.0 must be positive");
+        assertThatThrownBy(() -> Money.toMinorUnits(0.001)).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void openingBalancesMayBeZeroOrNegative() {
+        assertThat(Money.toSignedMinorUnits(0.0)).isZero();
+        assertThat(Money.toSignedMinorUnits(-25000.0)).isEqualTo(-2500000L);
+    }
+}
@@ -0,0 +1,314 @@
+package ma.formations.multiconnector;
+
+import io.grpc.ManagedChannel;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import ma.formations.multiconnector.common.ConnectorBulkheads;
+import ma.formations.multiconnector.enums.Connector;
+import ma.formations.multiconnector.grpc.stub.Bank;
+import ma.formations.multiconnector.grpc.stub.BankServiceGrpc;
+import ma.formations.multiconnector.presentation.grpc.WirerTransferStreamHandler;
+import ma.formations.multiconnector.service.IBankAccountService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A slow client reads a server stream one message at a time : the pages after the first one are loaded
+ * from onReady, they must still be read within the gRPC budget and be counted as gRPC connections,
+ * while onReady itself, which does no database work, never waits for the budget.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkhead",
+        "grpc.server.port=-1",
+        "grpc.server.in-process-name=bulkhead-test",
+        "bank.grpc.security.enabled=false",
+        "bank.grpc.stream.page-size=2",
+        "bank.bulkhead.grpc.max-concurrent=1"})
+public class TestGrpcStreamBulkhead {
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private ConnectorBulkheads bulkheads;
+    @Autowired
+    private WirerTransferStreamHandler transferStreamHandler;
+    @Autowired
+    private IBankAccountService bankAccountService;
+
+    private ManagedChannel channel;
+    private ScheduledExecutorService slowClient;
+
+    @BeforeEach
+    void connect() {
+        channel = InProcessChannelBuilder.forName("bulkhead-test").build();
+        slowClient = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void disconnect() {
+        channel.shutdownNow();
+        slowClient.shutdownNow();
+    }
+
+    @Test
+    void streamBankAccountsLoadsEveryPageWithinTheGrpcBudget() throws InterruptedException {
+        long grpcConnections = connections("grpc");
+        long otherConnections = connections("none");
+
+        List<Bank.BankAccountDto> received = readSlowly((stub, observer) ->
+                stub.streamBankAccounts(Bank.BankAccountsRequest.getDefaultInstance(), observer));
+
+        // 5 comptes initiaux, pages de 2 : 3 pages
+        assertThat(received).hasSize(5);
+        assertThat(connections("grpc")).isEqualTo(grpcConnections + 3);
+        assertThat(connections("none")).isEqualTo(otherConnections);
+        assertThat(activePermits()).isZero();
+    }
+
+    @Test
+    void streamBankAccountsPagesByIdInTheRequestedOrder() throws InterruptedException {
+        List<Bank.BankAccountDto> received = readSlowly((stub, observer) ->
+                stub.streamBankAccounts(Bank.BankAccountsRequest.newBuilder().
+                        setOrderBy("id").
+                        setDescending(true).
+                        build(), observer));
+
+        assertThat(received).hasSize(5);
+        assertThat(received).extracting(Bank.BankAccountDto::getId).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void streamBankAccountsRejectsAnOrderItCannotPage() {
+        Iterator<Bank.BankAccountDto> stream = BankServiceGrpc.newBlockingStub(channel).streamBankAccounts(
+                Bank.BankAccountsRequest.newBuilder().setOrderBy("amount").build());
+
+        assertThatThrownBy(stream::hasNext).isInstanceOf(StatusRuntimeException.class).
+                hasMessageContaining("INVALID_ARGUMENT");
+    }
+
+    @Test
+    void streamTransactionsLoadsEveryPageWithinTheGrpcBudget() throws InterruptedException {
+        long grpcConnections = connections("grpc");
+        long otherConnections = connections("none");
+
+        List<Bank.TransactionDto> received = readSlowly((stub, observer) ->
+                stub.streamTransactions(Bank.GetTransactionsRequest.newBuilder().
+                        setRib("RIB_1").
+                        setDateFrom("2000-01-01 00:00:00").
+                        setDateTo("2100-01-01 00:00:00").
+                        build(), observer));
+
+        // 3 virements initiaux depuis RIB_1, pages de 2 : 2 pages
+        assertThat(received).hasSize(3);
+        assertThat(connections("grpc")).isEqualTo(grpcConnections + 2);
+        assertThat(connections("none")).isEqualTo(otherConnections);
+        assertThat(activePermits()).isZero();
+    }
+
+    @Test
+    void timerFlushWaitsForItsSlotOutsideTheSession() throws InterruptedException {
+        List<Bank.WirerTransferAck> acks = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        StreamObserver<Bank.AddWirerTransferRequest> session = transferStreamHandler.open(new StreamObserver<>() {
+            @Override
+            public void onNext(Bank.WirerTransferAck ack) {
+                acks.add(ack);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+                finished.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                finished.countDown();
+            }
+        });
+
+        // Le thread du test joue l'intercepteur : il détient l'unique place gRPC pendant ses onNext,
+        // le flush temporisé armé par le premier virement attend donc cette place pendant le second
+        try (ConnectorBulkheads.Permit permit = bulkheads.enter(Connector.GRPC)) {
+            session.onNext(transfer());
+            Thread.sleep(100);
+            long start = System.nanoTime();
+            session.onNext(transfer());
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(100);
+        }
+        try (ConnectorBulkheads.Permit permit = bulkheads.enter(Connector.GRPC)) {
+            session.onCompleted();
+        }
+
+        assertThat(finished.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(error.get()).isNull();
+        assertThat(acks).extracting(Bank.WirerTransferAck::getSuccess).containsExactly(true, true);
+        assertThat(activePermits()).isZero();
+    }
+
+    @Test
+    void readinessCallbacksDoNotTakeAGrpcSlot() throws InterruptedException {
+        List<Bank.WirerTransferAck> acks = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        StreamObserver<Bank.AddWirerTransferRequest> requests;
+
+        // Budget plein plus longtemps que acquire-timeout-ms pendant l'ouverture du flux (onReady côté serveur)
+        try (ConnectorBulkheads.Permit permit = bulkheads.enter(Connector.GRPC)) {
+            requests = BankServiceGrpc.newStub(channel).streamWirerTransfers(new StreamObserver<>() {
+                @Override
+                public void onNext(Bank.WirerTransferAck ack) {
+                    acks.add(ack);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    error.set(throwable);
+                    finished.countDown();
+                }
+
+                @Override
+                public void onCompleted() {
+                    finished.countDown();
+                }
+            });
+            Thread.sleep(700);
+        }
+        requests.onNext(transfer());
+        requests.onCompleted();
+
+        assertThat(finished.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(error.get()).isNull();
+        assertThat(acks).extracting(Bank.WirerTransferAck::getSuccess).containsExactly(true);
+        assertThat(activePermits()).isZero();
+    }
+
+    @Test
+    void transferStreamStopsReadingWhileItsAcksAreNotRead() throws InterruptedException {
+        double balance = bankAccountService.getBankAccountByRib("RIB_8").getAmount();
+        AtomicReference<ClientCallStreamObserver<Bank.AddWirerTransferRequest>> requestStream = new AtomicReference<>();
+        List<Bank.WirerTransferAck> acks = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        BankServiceGrpc.newStub(channel).streamWirerTransfers(new ClientResponseObserver<Bank.AddWirerTransferRequest, Bank.WirerTransferAck>() {
+            @Override
+            public void beforeStart(ClientCallStreamObserver<Bank.AddWirerTransferRequest> stream) {
+                requestStream.set(stream);
+                stream.disableAutoRequestWithInitial(1);
+            }
+
+            @Override
+            public void onNext(Bank.WirerTransferAck ack) {
+                acks.add(ack);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+                finished.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                finished.countDown();
+            }
+        });
+
+        // Un acquittement lu, puis plus rien : chaque virement, espacé de plus que flush-ms, part seul en lot
+        for (int i = 0; i < 10; i++) {
+            requestStream.get().onNext(Bank.AddWirerTransferRequest.newBuilder().
+                    setRibFrom("RIB_2").
+                    setRibTo("RIB_8").
+                    setAmount(1).
+                    setUsername("user2").
+                    build());
+            Thread.sleep(50);
+        }
+        Thread.sleep(200);
+        assertThat(bankAccountService.getBankAccountByRib("RIB_8").getAmount()).isLessThanOrEqualTo(balance + 2);
+
+        requestStream.get().request(100);
+        requestStream.get().onCompleted();
+        assertThat(finished.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(error.get()).isNull();
+        assertThat(acks).hasSize(10).extracting(Bank.WirerTransferAck::getSuccess).containsOnly(true);
+        assertThat(bankAccountService.getBankAccountByRib("RIB_8").getAmount()).isEqualTo(balance + 10);
+    }
+
+    private static Bank.AddWirerTransferRequest transfer() {
+        return Bank.AddWirerTransferRequest.newBuilder().
+                setRibFrom("RIB_11").
+                setRibTo("RIB_9").
+                setAmount(1).
+                setUsername("user1").
+                build();
+    }
+
+    private <Q, R> List<R> readSlowly(BiConsumer<BankServiceGrpc.BankServiceStub, ClientResponseObserver<Q, R>> call)
+            throws InterruptedException {
+        List<R> received = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        call.accept(BankServiceGrpc.newStub(channel), new ClientResponseObserver<>() {
+            private ClientCallStreamObserver<Q> requestStream;
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<Q> requestStream) {
+                this.requestStream = requestStream;
+                requestStream.disableAutoRequestWithInitial(1);
+            }
+
+            @Override
+            public void onNext(R value) {
+                received.add(value);
+                slowClient.schedule(() -> requestStream.request(1), 20, TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+                finished.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                finished.countDown();
+            }
+        });
+        assertThat(finished.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(error.get()).isNull();
+        return received;
+    }
+
+    private long connections(String connector) {
+        return meterRegistry.find("bank.datasource.connection.wait").tag("connector", connector).timers().stream().
+                mapToLong(Timer::count).
+                sum();
+    }
+
+    private double activePermits() {
+        return meterRegistry.get("bank.bulkhead.active").tag("connector", "grpc").gauge().value();
+    }
+}
@@ -0,0 +1,104 @@
+package ma.formations.multiconnector;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import ma.formations.multiconnector.config.CacheConfig;
+import ma.formations.multiconnector.dtos.bankaccount.BankAccountDto;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.jwt.PrincipalResolver;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ITransactionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A lookup reads the account before a transfer commits and only fills the cache after the transfer's
+ * eviction : that late put must not bring the balance from before the transfer back into the cache.
+ * The JWT principal cache must likewise drop a user whose password hash was upgraded.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:caches",
+        "grpc.server.port=-1"})
+public class TestLookupCaches {
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private PrincipalResolver principalResolver;
+    @Autowired
+    private UserDetailsService userDetailsService;
+    @Autowired
+    private UserDetailsPasswordService userDetailsPasswordService;
+
+    @Test
+    void aLookupCommittedAfterATransferDoesNotCacheTheOldBalance() throws Exception {
+        CountDownLatch read = new CountDownLatch(1);
+        CountDownLatch transferred = new CountDownLatch(1);
+        TransactionTemplate lookupTransaction = new TransactionTemplate(transactionManager);
+
+        // La lecture se fait dans une transaction englobante : sa mise en cache attend son commit
+        CompletableFuture<Double> lookup = CompletableFuture.supplyAsync(() -> lookupTransaction.execute(status -> {
+            double balance = bankAccountService.getBankAccountByRib("RIB_11").getAmount();
+            read.countDown();
+            await(transferred);
+            return balance;
+        }));
+        CompletableFuture<Void> transfer = CompletableFuture.runAsync(() -> {
+            await(read);
+            transactionService.wiredTransfer(AddWirerTransferRequest.builder().
+                    ribFrom("RIB_11").
+                    ribTo("RIB_2").
+                    amount(100.0).
+                    username("user1").
+                    build());
+            transferred.countDown();
+        });
+
+        transfer.get(30, TimeUnit.SECONDS);
+        double balanceBefore = lookup.get(30, TimeUnit.SECONDS);
+
+        assertThat(bankAccountService.getBankAccountByRib("RIB_11").getAmount()).isEqualTo(balanceBefore - 100.0);
+        // La relecture, sans éviction concurrente, est bien mise en cache
+        assertThat(cacheManager.getCache(CacheConfig.BANK_ACCOUNTS_BY_RIB).get("RIB_11", BankAccountDto.class).getAmount()).
+                isEqualTo(balanceBefore - 100.0);
+    }
+
+    @Test
+    void anUpgradedPasswordHashEvictsTheCachedPrincipal() {
+        Claims claims = Jwts.claims().setSubject("admin").setIssuedAt(new Date());
+        principalResolver.resolve(claims);
+
+        // DaoAuthenticationProvider passe l'utilisateur qu'il vient de charger, pas le principal en cache
+        String upgraded = "{bcrypt}$2a$12$" + "x".repeat(53);
+        userDetailsPasswordService.updatePassword(userDetailsService.loadUserByUsername("admin"), upgraded);
+
+        assertThat(principalResolver.resolve(claims).getPassword()).isEqualTo(upgraded);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package ma.formations.multiconnector;
+
+import ma.formations.multiconnector.dao.BankAccountRepository;
+import ma.formations.multiconnector.dao.BankAccountTransactionRepository;
+import ma.formations.multiconnector.dao.CustomerRepository;
+import ma.formations.multiconnector.dao.PermissionRepository;
+import ma.formations.multiconnector.dao.RoleRepository;
+import ma.formations.multiconnector.dao.UserRepository;
+import ma.formations.multiconnector.enums.AccountStatus;
+import ma.formations.multiconnector.enums.Permissions;
+import ma.formations.multiconnector.enums.Roles;
+import ma.formations.multiconnector.service.model.BankAccount;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The schema comes from the Flyway migrations (validated against the entities) and every statement
+ * run by the hot repository methods must be served by an index.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plans",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=ma.formations.multiconnector.TestQueryPlans$Recorder",
+        "grpc.server.port=-1"})
+public class TestQueryPlans {
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+    @Autowired
+    private BankAccountTransactionRepository transactionRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private PermissionRepository permissionRepository;
+
+    @Test
+    void bankAccountLookupsUseTheRibIndex() {
+        assertIndexed(() -> bankAccountRepository.findByRib("RIB_1"));
+        assertIndexed(() -> bankAccountRepository.existsByRib("RIB_1"));
+        assertIndexed(() -> bankAccountRepository.findByRibForUpdate("RIB_1"));
+        assertIndexed(() -> bankAccountRepository.findByRibIn(List.of("RIB_1", "RIB_2")));
+        assertIndexed(() -> bankAccountRepository.findByRibInForUpdate(List.of("RIB_1", "RIB_2")));
+        assertIndexed(() -> bankAccountRepository.debit("RIB_1", 1, AccountStatus.OPENED));
+        assertIndexed(() -> bankAccountRepository.credit("RIB_2", 1, AccountStatus.OPENED));
+    }
+
+    @Test
+    void bankAccountStreamPagesUseThePrimaryKey() {
+        assertIndexed(() -> bankAccountRepository.findPageAfter(0L, PageRequest.ofSize(500)));
+        assertIndexed(() -> bankAccountRepository.findPageBefore(Long.MAX_VALUE, PageRequest.ofSize(500)));
+    }
+
+    @Test
+    void userLookupsUseTheUniqueIndexes() {
+        assertIndexed(() -> userRepository.findByUsername("admin"));
+        assertIndexed(() -> userRepository.findByUsernameIn(List.of("admin", "client")));
+        assertIndexed(() -> customerRepository.findByUsername("user1"));
+        assertIndexed(() -> customerRepository.findByIdentityRef("A100"));
+        assertIndexed(() -> roleRepository.findByAuthority(Roles.ROLE_CLIENT.name()));
+        assertIndexed(() -> permissionRepository.findByAuthority(Permissions.GET_TRANSACTIONS.name()));
+    }
+
+    @Test
+    void historyRangeScansUseTheHistoryIndex() {
+        BankAccount account = bankAccountRepository.findByRib("RIB_1").orElseThrow();
+        Date from = new Date(0);
+        Date to = new Date();
+        assertIndexed(() -> transactionRepository.findHistory(account.getId(), from, to, PageRequest.ofSize(50)));
+        assertIndexed(() -> transactionRepository.findHistoryAfter(account.getId(), to, from, 0L, PageRequest.ofSize(50)));
+        assertIndexed(() -> transactionRepository.findByBankAccount_RibAndCreatedAtBetween("RIB_1", from, to));
+    }
+
+    private void assertIndexed(Runnable repositoryCall) {
+        STATEMENTS.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            repositoryCall.run();
+            status.setRollbackOnly();
+        });
+        List<String> statements = new ArrayList<>(STATEMENTS);
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            assertThat(explain(sql)).as(sql).doesNotContain("tableScan");
+        }
+    }
+
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++)
+                statement.setObject(i, null);
+            try (ResultSet plan = statement.executeQuery()) {
+                StringBuilder text = new StringBuilder();
+                while (plan.next())
+                    text.append(plan.getString(1));
+                return text.toString();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(sql, e);
+        }
+    }
+
+    public static class Recorder implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            String statement = sql.trim().toLowerCase(Locale.ROOT);
+            if (statement.startsWith("select") || statement.startsWith("update") || statement.startsWith("delete"))
+                STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
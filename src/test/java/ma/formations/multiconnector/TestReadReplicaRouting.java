@@ -0,0 +1,125 @@
+package ma.formations.multiconnector;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import ma.formations.multiconnector.dtos.customer.AddCustomerRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.dtos.transaction.GetTransactionPageRequest;
+import ma.formations.multiconnector.service.IBankAccountService;
+import ma.formations.multiconnector.service.ICustomerService;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.event.SecurityDataChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The replica is stood in by a second pool on the same in-memory database : the pool that handed out
+ * the connection tells where the transaction was routed.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1",
+        "bank.datasource.replica.enabled=true",
+        "bank.datasource.replica.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1",
+        "grpc.server.port=-1"})
+public class TestReadReplicaRouting {
+    private static final String PRIMARY_POOL = "bank-pool";
+    private static final String REPLICA_POOL = "bank-replica-pool";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private IBankAccountService bankAccountService;
+    @Autowired
+    private ICustomerService customerService;
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        long primary = borrowed(PRIMARY_POOL);
+        long replica = borrowed(REPLICA_POOL);
+
+        bankAccountService.getAllBankAccounts();
+        bankAccountService.getBankAccounts(PageRequest.ofSize(2));
+        customerService.getAllCustomers();
+        transactionService.getTransactionPage(GetTransactionPageRequest.builder().
+                rib("RIB_1").
+                dateFrom("2000-01-01 00:00:00").
+                dateTo("2100-01-01 00:00:00").
+                build());
+
+        assertThat(borrowed(REPLICA_POOL)).isEqualTo(replica + 4);
+        assertThat(borrowed(PRIMARY_POOL)).isEqualTo(primary);
+    }
+
+    @Test
+    void writesStayOnThePrimary() {
+        long primary = borrowed(PRIMARY_POOL);
+        long replica = borrowed(REPLICA_POOL);
+
+        customerService.createCustomer(AddCustomerRequest.builder().
+                username("routing").
+                identityRef("R100").
+                firstname("FIRST_NAME").
+                lastname("LAST_NAME").
+                build());
+
+        assertThat(borrowed(PRIMARY_POOL)).isEqualTo(primary + 1);
+        assertThat(borrowed(REPLICA_POOL)).isEqualTo(replica);
+    }
+
+    @Test
+    void cachedLookupsReadThePrimaryAfterATransfer() {
+        double balance = bankAccountService.getBankAccountByRib("RIB_11").getAmount();
+
+        // Le virement invalide le compte en cache : la relecture ne doit pas venir d'une réplique en retard
+        transactionService.wiredTransfer(AddWirerTransferRequest.builder().
+                ribFrom("RIB_11").
+                ribTo("RIB_2").
+                amount(100.0).
+                username("user1").
+                build());
+        long primary = borrowed(PRIMARY_POOL);
+        long replica = borrowed(REPLICA_POOL);
+
+        assertThat(bankAccountService.getBankAccountByRib("RIB_11").getAmount()).isEqualTo(balance - 100.0);
+        customerService.getCustomByIdentity("A100");
+
+        assertThat(borrowed(PRIMARY_POOL)).isEqualTo(primary + 2);
+        assertThat(borrowed(REPLICA_POOL)).isEqualTo(replica);
+    }
+
+    @Test
+    void authorityReloadAfterCommitReadsThePrimary() {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        long primary = borrowed(PRIMARY_POOL);
+        long replica = borrowed(REPLICA_POOL);
+
+        // Rechargement de la table rôle -> autorités après le commit d'une transaction readOnly (réplique)
+        readOnlyTransaction.executeWithoutResult(status -> {
+            bankAccountService.getAllBankAccounts();
+            eventPublisher.publishEvent(SecurityDataChangedEvent.forAllUsers());
+        });
+
+        assertThat(borrowed(REPLICA_POOL)).isEqualTo(replica + 1);
+        assertThat(borrowed(PRIMARY_POOL)).isEqualTo(primary + 1);
+    }
+
+    private long borrowed(String pool) {
+        return meterRegistry.find("bank.datasource.connection.wait").tag("pool", pool).timers().stream().
+                mapToLong(Timer::count).
+                sum();
+    }
+}
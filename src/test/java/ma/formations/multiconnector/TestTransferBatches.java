@@ -0,0 +1,90 @@
+package ma.formations.multiconnector;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import ma.formations.multiconnector.common.TransferSettings;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchRequest;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferBatchResponse;
+import ma.formations.multiconnector.dtos.transaction.AddWirerTransferRequest;
+import ma.formations.multiconnector.service.ITransactionService;
+import ma.formations.multiconnector.service.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A batch is bounded by bank.transfer.batch.max-size and always applied in chunks, whatever the
+ * configured chunk size.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batches",
+        "grpc.server.port=-1"})
+public class TestTransferBatches {
+    @Autowired
+    private ITransactionService transactionService;
+    @Autowired
+    private TransferSettings transferSettings;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private int chunkSize;
+    private int maxSize;
+
+    @BeforeEach
+    void saveSettings() {
+        chunkSize = transferSettings.getBatchChunkSize();
+        maxSize = transferSettings.getBatchMaxSize();
+    }
+
+    @AfterEach
+    void restoreSettings() {
+        transferSettings.setBatchChunkSize(chunkSize);
+        transferSettings.setBatchMaxSize(maxSize);
+    }
+
+    @Test
+    void rejectsABatchOverTheMaximumSize() {
+        transferSettings.setBatchMaxSize(3);
+
+        assertThatThrownBy(() -> transactionService.wiredTransferBatch(batch(4, 1.0))).
+                isInstanceOf(BusinessException.class).
+                hasMessage("the batch has 4 transfers, the maximum is 3");
+    }
+
+    @Test
+    void aChunkSizeOfZeroFallsBackToTheDefault() {
+        transferSettings.setBatchChunkSize(0);
+        long connections = connections();
+
+        AddWirerTransferBatchResponse response = transactionService.wiredTransferBatch(batch(501, 1.0));
+
+        assertThat(response.getSucceeded()).isEqualTo(501);
+        assertThat(response.getFailed()).isZero();
+        // Tranches de 500 : deux transactions, une connexion chacune
+        assertThat(connections()).isEqualTo(connections + 2);
+    }
+
+    private long connections() {
+        return meterRegistry.find("bank.datasource.connection.wait").timers().stream().
+                mapToLong(Timer::count).
+                sum();
+    }
+
+    private static AddWirerTransferBatchRequest batch(int size, double amount) {
+        return AddWirerTransferBatchRequest.builder().
+                transfers(Collections.nCopies(size, AddWirerTransferRequest.builder().
+                        ribFrom("RIB_11").
+                        ribTo("RIB_2").
+                        amount(amount).
+                        username("user1").
+                        build())).
+                build();
+    }
+}